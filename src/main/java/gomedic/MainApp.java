@@ -22,9 +22,13 @@ import gomedic.model.ReadOnlyAddressBook;
 import gomedic.model.ReadOnlyUserPrefs;
 import gomedic.model.UserPrefs;
 import gomedic.model.util.SampleDataUtil;
+import gomedic.storage.AddressBookSaver;
 import gomedic.storage.AddressBookStorage;
+import gomedic.storage.BinaryAddressBookStorage;
+import gomedic.storage.JournalAddressBookStorage;
 import gomedic.storage.JsonAddressBookStorage;
 import gomedic.storage.JsonUserPrefsStorage;
+import gomedic.storage.ShardedAddressBookStorage;
 import gomedic.storage.Storage;
 import gomedic.storage.StorageManager;
 import gomedic.storage.UserPrefsStorage;
@@ -47,6 +51,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AddressBookSaver addressBookSaver;
 
     @Override
     public void init() throws Exception {
@@ -59,18 +64,36 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookRootFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookRootFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        addressBookSaver = new AddressBookSaver(storage);
+        logic = new LogicManager(model, addressBookSaver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the storage mode in {@code config}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path addressBookFilePath) {
+        switch (config.getStorageMode()) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(addressBookFilePath,
+                    JournalAddressBookStorage.DEFAULT_SNAPSHOT_INTERVAL, config.isCompactDataFile());
+        case BINARY:
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(addressBookFilePath, config.isCompactDataFile());
+        default:
+            return new JsonAddressBookStorage(addressBookFilePath, config.isCompactDataFile());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -178,6 +201,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            addressBookSaver.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save the address book " + StringUtil.getDetails(e));
+        }
+
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -14,9 +14,24 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get(UserPrefs.ROOT_FOLDER, "config.json");
 
+    /**
+     * The ways the address book data can be stored on the hard disk.
+     * {@code JOURNAL} appends only the changes made by each command to a journal next to the json data file,
+     * while {@code BINARY} stores the data file in a compact binary format that is faster to load.
+     * {@code SHARDED} splits the data into separate json files so that a save only rewrites the files that changed.
+     */
+    public enum StorageMode {
+        JSON,
+        JOURNAL,
+        BINARY,
+        SHARDED
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get(UserPrefs.ROOT_FOLDER, "preferences.json");
+    private StorageMode storageMode = StorageMode.JSON;
+    private boolean compactDataFile = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +49,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -46,12 +77,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(storageMode, o.storageMode)
+                && compactDataFile == o.compactDataFile;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, storageMode, compactDataFile);
     }
 
     @Override
@@ -59,6 +92,8 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nStorage mode : " + storageMode);
+        sb.append("\nCompact data file : " + compactDataFile);
         return sb.toString();
     }
 
@@ -1,18 +1,38 @@
 package gomedic.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_EXTENSION = ".tmp";
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
     private static final String CHARSET = "UTF-8";
 
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream output) throws IOException;
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -77,7 +97,112 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, output -> output.write(bytes));
+    }
+
+    /**
+     * Replaces the content of a file with the content written by {@code contentWriter}, along with its missing
+     * parent directories.
+     * The content is written to a temporary file next to it and flushed to the disk before that file is renamed
+     * over the original one, so a crash at any point leaves either the old or the new content in the file.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.writeTo(output);
+            output.flush();
+            channel.force(true);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+
+        moveAtomically(tempFile, file);
+    }
+
+    /**
+     * Renames {@code source} to {@code target} in a single step, replacing {@code target} if it exists, and flushes
+     * the rename to the disk.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Flushes the entries of a directory, such as a file renamed into it, to the disk where that is supported.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // directories cannot be opened on some platforms, which make renames durable by themselves
+        }
+    }
+
+    /**
+     * Returns the path of the backup kept next to {@code file} by {@link #backUpFile(Path)}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Keeps the current content of a file as its backup, replacing any older backup.
+     * The backup is a hard link to the file where possible, so it costs no copying and survives the next
+     * {@link #writeAtomically(Path, ContentWriter)} of the file. Does nothing if the file does not exist.
+     */
+    public static void backUpFile(Path file) throws IOException {
+        if (!isFileExists(file)) {
+            return;
+        }
+
+        Path backupFile = getBackupFilePath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file, and flushes it to the disk before returning.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        boolean isNewFile = !Files.exists(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+
+        if (isNewFile) {
+            forceDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the content of a file.
+     * Assumes file exists
+     */
+    public static long getChecksum(Path file) throws IOException {
+        try (CheckedInputStream input = new CheckedInputStream(Files.newInputStream(file), new CRC32())) {
+            byte[] buffer = new byte[8192];
+            while (input.read(buffer) >= 0) {
+                // the checksum is updated as the file is read
+            }
+            return input.getChecksum().getValue();
+        }
     }
 
 }
@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +29,35 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
+        String preppedWord = prepareWordIgnoreCase(word);
+        return splitWordsIgnoreCase(sentence).stream()
+                .anyMatch(x -> x.contains(preppedWord));
+    }
+
+    /**
+     * Returns the words of {@code sentence} in lower case, as compared by {@link #containsWordIgnoreCase}.
+     *
+     * @param sentence cannot be null
+     */
+    public static List<String> splitWordsIgnoreCase(String sentence) {
+        requireNonNull(sentence);
+        return Arrays.stream(sentence.toLowerCase().split("\\s+"))
+                .filter(x -> !x.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns {@code word} in lower case and without surrounding whitespace, as compared by
+     * {@link #containsWordIgnoreCase}.
+     *
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String prepareWordIgnoreCase(String word) {
+        requireNonNull(word);
         String preppedWord = word.trim().toLowerCase();
         AppUtil.checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
         AppUtil.checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
-
-        String preppedSentence = sentence.toLowerCase();
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
-
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(x -> x.contains(preppedWord));
+        return preppedWord;
     }
 
     /**
@@ -1,6 +1,7 @@
 package gomedic.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import gomedic.commons.core.GuiSettings;
 import gomedic.logic.commands.CommandResult;
@@ -11,6 +12,7 @@ import gomedic.model.ReadOnlyAddressBook;
 import gomedic.model.activity.Activity;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.patient.Patient;
+import gomedic.model.person.patient.PatientId;
 import gomedic.model.userprofile.UserProfile;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
@@ -83,4 +85,9 @@ public interface Logic {
      * @return Patient to be viewed.
      */
     ObservableValue<Patient> getViewPatient();
+
+    /**
+     * Returns the appointments of the patient with {@code patientId}, sorted by start time.
+     */
+    List<Activity> getPatientAppointments(PatientId patientId);
 }
@@ -1,7 +1,7 @@
 package gomedic.logic;
 
-import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import gomedic.commons.core.GuiSettings;
@@ -16,7 +16,9 @@ import gomedic.model.ReadOnlyAddressBook;
 import gomedic.model.activity.Activity;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.patient.Patient;
+import gomedic.model.person.patient.PatientId;
 import gomedic.model.userprofile.UserProfile;
+import gomedic.storage.AddressBookSaver;
 import gomedic.storage.Storage;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
@@ -32,15 +34,25 @@ public class LogicManager implements Logic {
 
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaver addressBookSaver;
     private final AddressBookParser addressBookParser;
+    // true while the changes of the model have been handed to the saver but may not be written yet
+    private boolean hasUnwrittenSave;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * which saves the address book before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new AddressBookSaver(storage, Runnable::run));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code AddressBookSaver}.
+     */
+    public LogicManager(Model model, AddressBookSaver addressBookSaver) {
         this.model = model;
-        this.storage = storage;
+        this.addressBookSaver = addressBookSaver;
         addressBookParser = new AddressBookParser();
     }
 
@@ -48,19 +60,44 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        // saves of earlier commands may have been written since the last command
+        markAddressBookAsSavedIfWritten();
+
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE);
+        // a failed save of an earlier command is reported along with the result of this one
+        boolean hasEarlierSaveFailed = addressBookSaver.pollFailure().isPresent();
+
+        if (!command.isReadOnly() && !model.getAddressBook().getModifiedDataTypes().isEmpty()) {
+            addressBookSaver.save(model.getAddressBook());
+            hasUnwrittenSave = true;
+            markAddressBookAsSavedIfWritten();
+            // a save that has already failed, as it does when saves are run on the calling thread, fails the command
+            if (addressBookSaver.pollFailure().isPresent()) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE);
+            }
         }
 
+        if (hasEarlierSaveFailed) {
+            return new CommandResult(commandResult.getFeedbackToUser() + "\n" + FILE_OPS_ERROR_MESSAGE,
+                    commandResult.isShowHelp(), commandResult.isExit());
+        }
         return commandResult;
     }
 
+    /**
+     * Marks the address book of the model as saved once every save requested so far has been written, so that
+     * the changes of a save that has not been written yet are saved again by the next one.
+     */
+    private void markAddressBookAsSavedIfWritten() {
+        if (hasUnwrittenSave && addressBookSaver.isSaved()) {
+            model.markAddressBookAsSaved();
+            hasUnwrittenSave = false;
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -120,4 +157,9 @@ public class LogicManager implements Logic {
     public ObservableValue<Patient> getViewPatient() {
         return model.getViewPatient();
     }
+
+    @Override
+    public List<Activity> getPatientAppointments(PatientId patientId) {
+        return model.getPatientAppointments(patientId);
+    }
 }
@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command never changes the address book data, so that nothing has to be saved after it.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -82,37 +82,19 @@ public class ReferralCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        Doctor specifiedDoctor = getSpecifiedDoctor(model);
-
-        if (specifiedDoctor == null) {
-            throw new CommandException(MESSAGE_DOCTOR_NOT_FOUND);
-        }
-
-        Patient specifiedPatient = getSpecifiedPatient(model);
-
-        if (specifiedPatient == null) {
-            throw new CommandException(MESSAGE_PATIENT_NOT_FOUND);
-        }
+        Doctor specifiedDoctor = model.getDoctorById(doctorId)
+                .orElseThrow(() -> new CommandException(MESSAGE_DOCTOR_NOT_FOUND));
+        Patient specifiedPatient = model.getPatientById(patientId)
+                .orElseThrow(() -> new CommandException(MESSAGE_PATIENT_NOT_FOUND));
 
         UserProfile profile = model.getUserProfile();
         generatePdf(specifiedDoctor, specifiedPatient, profile);
         return new CommandResult(String.format(MESSAGE_SUCCESS, path.toAbsolutePath()));
     }
 
-    private Patient getSpecifiedPatient(Model model) {
-        return model.getFilteredPatientList()
-                .stream()
-                .filter(patient -> patient.getId().equals(patientId))
-                .findFirst()
-                .orElse(null);
-    }
-
-    private Doctor getSpecifiedDoctor(Model model) {
-        return model.getFilteredDoctorList()
-                .stream()
-                .filter(doctor -> doctor.getId().equals(doctorId))
-                .findFirst()
-                .orElse(null);
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     private void generatePdf(Doctor specifiedDoctor,
@@ -21,9 +21,7 @@ import gomedic.model.activity.Description;
 import gomedic.model.activity.Title;
 import gomedic.model.commonfield.Id;
 import gomedic.model.commonfield.Time;
-import gomedic.model.person.patient.Patient;
 import gomedic.model.person.patient.PatientId;
-import javafx.collections.ObservableList;
 
 /**
  * Adds an activity to the address book
@@ -81,10 +79,8 @@ public class AddAppointmentCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        ObservableList<Patient> listOfPatients = model.getFilteredPatientList();
         // patient does not exist in directory
-        if (listOfPatients.isEmpty()
-                || listOfPatients.filtered(x -> x.getId().getIdNumber() == patientId.getIdNumber()).isEmpty()) {
+        if (model.getPatientById(patientId).isEmpty()) {
             throw new CommandException(MESSAGE_PATIENT_NOT_FOUND);
         }
 
@@ -10,8 +10,6 @@ import gomedic.model.AddressBook;
 import gomedic.model.Model;
 import gomedic.model.ModelItem;
 import gomedic.model.ReadOnlyAddressBook;
-import gomedic.model.person.patient.Patient;
-import javafx.collections.ObservableList;
 
 /**
  * Clears the address book of patients and associated activities.
@@ -25,14 +23,12 @@ public class ClearPatientCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        ObservableList<Patient> listOfPatients = model.getFilteredPatientList();
-        for (Patient patient : listOfPatients) {
-            model.deletePatientAssociatedAppointments(patient);
-        }
         AddressBook newAddressBook = new AddressBook();
         ReadOnlyAddressBook oldAddressBook = model.getAddressBook();
         newAddressBook.setUserProfile(oldAddressBook.getUserProfile());
-        newAddressBook.setActivities(oldAddressBook.getActivityListSortedById());
+        // every patient is cleared, so all the appointments go with them in a single pass
+        newAddressBook.setActivities(oldAddressBook.getActivityListSortedById()
+                .filtered(activity -> !activity.isAppointment()));
         newAddressBook.setDoctors(oldAddressBook.getDoctorListSortedById());
         model.setAddressBook(newAddressBook);
         model.setModelBeingShown(ModelItem.PATIENT);
@@ -3,8 +3,6 @@ package gomedic.logic.commands.deletecommand;
 import static gomedic.logic.parser.CliSyntax.PREFIX_TYPE_ACTIVITY;
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import gomedic.commons.core.Messages;
 import gomedic.logic.commands.Command;
 import gomedic.logic.commands.CommandResult;
@@ -36,19 +34,9 @@ public class DeleteActivityCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Activity> lastShownList = model.getFilteredActivityListById();
-
-        Activity activityToDelete = lastShownList
-                .stream()
-                .filter(activity -> activity
-                        .getActivityId()
-                        .toString().equals(targetId.toString()))
-                .findFirst()
-                .orElse(null);
-
-        if (activityToDelete == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_ACTIVITY_ID);
-        }
+
+        Activity activityToDelete = model.getActivityById(targetId)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_ACTIVITY_ID));
         model.deleteActivity(activityToDelete);
         model.setViewPatient(null);
         return new CommandResult(String.format(MESSAGE_DELETE_ACTIVITY_SUCCESS, activityToDelete));
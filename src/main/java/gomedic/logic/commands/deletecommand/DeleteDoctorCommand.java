@@ -3,8 +3,6 @@ package gomedic.logic.commands.deletecommand;
 import static gomedic.logic.parser.CliSyntax.PREFIX_TYPE_DOCTOR;
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import gomedic.commons.core.Messages;
 import gomedic.logic.commands.Command;
 import gomedic.logic.commands.CommandResult;
@@ -35,19 +33,9 @@ public class DeleteDoctorCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Doctor> lastShownList = model.getFilteredDoctorList();
-
-        Doctor doctorToDelete = lastShownList
-                .stream()
-                .filter(doctor -> doctor
-                        .getId()
-                        .toString().equals(targetId.toString()))
-                .findFirst()
-                .orElse(null);
-
-        if (doctorToDelete == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_DOCTOR_ID);
-        }
+
+        Doctor doctorToDelete = model.getDoctorById(targetId)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_DOCTOR_ID));
         model.deleteDoctor(doctorToDelete);
         model.setViewPatient(null);
         return new CommandResult(String.format(MESSAGE_DELETE_DOCTOR_SUCCESS, doctorToDelete));
@@ -4,8 +4,6 @@ import static gomedic.logic.parser.CliSyntax.PREFIX_TYPE_PATIENT;
 import static gomedic.model.Model.PREDICATE_SHOW_ALL_ITEMS;
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import gomedic.commons.core.Messages;
 import gomedic.logic.commands.Command;
 import gomedic.logic.commands.CommandResult;
@@ -38,19 +36,9 @@ public class DeletePatientCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        Patient patientToDelete = lastShownList
-            .stream()
-            .filter(patient -> patient
-                .getId()
-                .toString().equals(targetId.toString()))
-            .findFirst()
-            .orElse(null);
 
-        if (patientToDelete == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_ID);
-        }
+        Patient patientToDelete = model.getPatientById(targetId)
+            .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PATIENT_ID));
         model.deletePatient(patientToDelete);
         model.setViewPatient(null);
         model.setModelBeingShown(ModelItem.PATIENT);
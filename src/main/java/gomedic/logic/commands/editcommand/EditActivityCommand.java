@@ -9,7 +9,6 @@ import static gomedic.logic.parser.CliSyntax.PREFIX_TYPE_ACTIVITY;
 import static gomedic.model.Model.PREDICATE_SHOW_ALL_ITEMS;
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.Optional;
 
 import gomedic.commons.core.Messages;
@@ -91,17 +90,9 @@ public class EditActivityCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Activity> lastShownList = model.getFilteredActivityListById();
 
-        Activity activityToEdit = lastShownList
-                .stream()
-                .filter(activity -> activity.getActivityId().toString().equals(targetId.toString()))
-                .findFirst()
-                .orElse(null);
-
-        if (activityToEdit == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_ACTIVITY_ID);
-        }
+        Activity activityToEdit = model.getActivityById(targetId)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_ACTIVITY_ID));
 
         Activity editedActivity;
 
@@ -111,13 +102,7 @@ public class EditActivityCommand extends Command {
             throw new CommandException(e.getMessage());
         }
 
-        boolean anyConflicting = model
-                .getFilteredActivityListById()
-                .stream()
-                .anyMatch(it -> it.isConflicting(editedActivity) && !it.getActivityId()
-                        .equals(editedActivity.getActivityId()));
-
-        if (anyConflicting) {
+        if (model.hasConflictingActivity(editedActivity)) {
             throw new CommandException(Messages.MESSAGE_CONFLICTING_ACTIVITY);
         }
 
@@ -8,7 +8,6 @@ import static gomedic.logic.parser.CliSyntax.PREFIX_TYPE_DOCTOR;
 import static gomedic.model.Model.PREDICATE_SHOW_ALL_ITEMS;
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.Optional;
 
 import gomedic.commons.core.Messages;
@@ -82,17 +81,9 @@ public class EditDoctorCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Doctor> lastShownList = model.getFilteredDoctorList();
 
-        Doctor doctorToEdit = lastShownList
-                .stream()
-                .filter(doctor -> doctor.getId().toString().equals(targetId.toString()))
-                .findFirst()
-                .orElse(null);
-
-        if (doctorToEdit == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_DOCTOR_ID);
-        }
+        Doctor doctorToEdit = model.getDoctorById(targetId)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_DOCTOR_ID));
 
         Doctor editedDoctor = createEditedDoctor(doctorToEdit, editDoctorDescriptor);
 
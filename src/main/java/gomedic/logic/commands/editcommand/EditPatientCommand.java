@@ -15,7 +15,6 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -112,17 +111,9 @@ public class EditPatientCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
 
-        Patient patientToEdit = lastShownList
-            .stream()
-            .filter(patient -> patient.getId().toString().equals(targetId.toString()))
-            .findFirst()
-            .orElse(null);
-
-        if (patientToEdit == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_ID);
-        }
+        Patient patientToEdit = model.getPatientById(targetId)
+            .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PATIENT_ID));
 
         Patient editedPatient = createEditedPatient(patientToEdit, editPatientDescriptor);
 
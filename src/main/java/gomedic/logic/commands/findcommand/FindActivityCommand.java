@@ -44,6 +44,11 @@ public class FindActivityCommand extends Command {
                 String.format(Messages.MESSAGE_ITEMS_LISTED_OVERVIEW, model.getFilteredActivityListById().size()));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
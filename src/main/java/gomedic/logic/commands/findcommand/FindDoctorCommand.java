@@ -27,7 +27,9 @@ public class FindDoctorCommand extends Command {
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: t/doctor [FIELD]/KEYWORDS ...\n"
             + "Example: " + COMMAND_WORD + " n/alice lee"
-            + "\nOptions for FIELD: n, p, de";
+            + "\nOptions for FIELD: n, p, de"
+            + "\nFields can be combined with AND, OR, NOT and parentheses, e.g. "
+            + COMMAND_WORD + " de/cardiology AND NOT n/lee";
 
     private final Predicate<Doctor> predicate;
 
@@ -46,6 +48,11 @@ public class FindDoctorCommand extends Command {
                 String.format(Messages.MESSAGE_ITEMS_LISTED_OVERVIEW, model.getFilteredDoctorList().size()));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
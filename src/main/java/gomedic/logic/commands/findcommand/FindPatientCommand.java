@@ -27,7 +27,10 @@ public class FindPatientCommand extends Command {
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: t/patient [FIELD]/KEYWORDS ...\n"
             + "Example: " + COMMAND_WORD + " n/alice lee"
-            + "\nOptions for FIELD: n, p, a, g, h, w, b, m";
+            + "\nOptions for FIELD: n, p, a, g, h, w, b, m"
+            + "\nFields a, h and w also take ranges such as 60-80, >170 or <=50, e.g. " + COMMAND_WORD + " a/60-80"
+            + "\nFields can be combined with AND, OR, NOT and parentheses, e.g. "
+            + COMMAND_WORD + " b/O+ AND (m/diabetes OR a/>60)";
 
     private final Predicate<Patient> predicate;
 
@@ -46,6 +49,11 @@ public class FindPatientCommand extends Command {
                 String.format(Messages.MESSAGE_ITEMS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,12 +1,16 @@
 package gomedic.logic.commands.listcommand;
 
+import static gomedic.logic.parser.CliSyntax.PREFIX_PERIOD_END;
 import static gomedic.logic.parser.CliSyntax.PREFIX_PERIOD_FLAG;
+import static gomedic.logic.parser.CliSyntax.PREFIX_PERIOD_START;
 import static gomedic.logic.parser.CliSyntax.PREFIX_SORT_FLAG;
 import static gomedic.logic.parser.CliSyntax.PREFIX_TYPE_ACTIVITY;
 import static gomedic.model.Model.PREDICATE_SHOW_ALL_ITEMS;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import gomedic.logic.commands.Command;
 import gomedic.logic.commands.CommandResult;
@@ -29,12 +33,20 @@ public class ListActivityCommand extends Command {
             + "Parameters: "
             + "[" + PREFIX_SORT_FLAG + "SORT_FLAG] "
             + "[" + PREFIX_PERIOD_FLAG + "PERIOD] "
+            + "[" + PREFIX_PERIOD_START + "START_TIME " + PREFIX_PERIOD_END + "END_TIME] "
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_SORT_FLAG + "START "
             + PREFIX_PERIOD_FLAG + "TODAY ";
 
+    public static final String MESSAGE_INVALID_CUSTOM_PERIOD = "A custom period needs both "
+            + PREFIX_PERIOD_START + "START_TIME and " + PREFIX_PERIOD_END + "END_TIME, "
+            + "cannot be used together with " + PREFIX_PERIOD_FLAG + "PERIOD, "
+            + "and its start time must not be after its end time";
+
     private final Sort sortFlag;
     private final Period periodFlag;
+    private final Time periodStart;
+    private final Time periodEnd;
 
     /**
      * Constructs a new list activity command.
@@ -45,6 +57,22 @@ public class ListActivityCommand extends Command {
     public ListActivityCommand(Sort sortFlag, Period periodFlag) {
         this.sortFlag = sortFlag;
         this.periodFlag = periodFlag;
+        this.periodStart = null;
+        this.periodEnd = null;
+    }
+
+    /**
+     * Constructs a new list activity command that shows the activities starting within a custom period.
+     *
+     * @param sortFlag to be sorted by id or start time.
+     * @param periodStart earliest start time of the activities shown, inclusive.
+     * @param periodEnd latest start time of the activities shown, inclusive.
+     */
+    public ListActivityCommand(Sort sortFlag, Time periodStart, Time periodEnd) {
+        this.sortFlag = sortFlag;
+        this.periodFlag = null;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
     }
 
     @Override
@@ -61,27 +89,29 @@ public class ListActivityCommand extends Command {
             break;
         }
 
-        Time yesterday = new Time(LocalDateTime.now().minusDays(1));
+        if (periodFlag == null) {
+            model.updateFilteredActivitiesListToPeriod(periodStart, periodEnd);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Time yesterday = new Time(now.minusDays(1));
 
         switch (periodFlag) {
         case ALL:
             model.updateFilteredActivitiesList(PREDICATE_SHOW_ALL_ITEMS);
             break;
         case TODAY:
-            model.updateFilteredActivitiesList(activity ->
-                    isInBetween(activity, yesterday, new Time(LocalDateTime.now().plusDays(1))));
+            model.updateFilteredActivitiesList(startsInBetween(yesterday, new Time(now.plusDays(1))));
             break;
         case WEEK:
-            model.updateFilteredActivitiesList(activity ->
-                    isInBetween(activity, yesterday, new Time(LocalDateTime.now().plusDays(7))));
+            model.updateFilteredActivitiesList(startsInBetween(yesterday, new Time(now.plusDays(7))));
             break;
         case MONTH:
-            model.updateFilteredActivitiesList(activity ->
-                    isInBetween(activity, yesterday, new Time(LocalDateTime.now().plusMonths(1))));
+            model.updateFilteredActivitiesList(startsInBetween(yesterday, new Time(now.plusMonths(1))));
             break;
         case YEAR:
-            model.updateFilteredActivitiesList(activity ->
-                    isInBetween(activity, yesterday, new Time(LocalDateTime.now().plusYears(1))));
+            model.updateFilteredActivitiesList(startsInBetween(yesterday, new Time(now.plusYears(1))));
             break;
         default:
             break;
@@ -90,9 +120,14 @@ public class ListActivityCommand extends Command {
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
-    // start and end are exclusive
-    private boolean isInBetween(Activity activity, Time start, Time end) {
-        return activity.getStartTime().isAfter(start) && activity.getStartTime().isBefore(end);
+    // start and end are exclusive, and are created once rather than for every activity tested
+    private static Predicate<Activity> startsInBetween(Time start, Time end) {
+        return activity -> activity.getStartTime().isAfter(start) && activity.getStartTime().isBefore(end);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
@@ -110,7 +145,9 @@ public class ListActivityCommand extends Command {
         // state check
         ListActivityCommand e = (ListActivityCommand) other;
         return sortFlag.equals(e.sortFlag)
-                && periodFlag.equals(e.periodFlag);
+                && Objects.equals(periodFlag, e.periodFlag)
+                && Objects.equals(periodStart, e.periodStart)
+                && Objects.equals(periodEnd, e.periodEnd);
     }
 
     /**
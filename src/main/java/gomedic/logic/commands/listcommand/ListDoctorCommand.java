@@ -21,4 +21,9 @@ public class ListDoctorCommand extends Command {
         model.updateFilteredDoctorList(PREDICATE_SHOW_ALL_ITEMS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
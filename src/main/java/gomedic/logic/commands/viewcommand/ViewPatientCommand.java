@@ -35,11 +35,8 @@ public class ViewPatientCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Patient patientToView = getSpecifiedPatient(model);
-
-        if (patientToView == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_ID);
-        }
+        Patient patientToView = model.getPatientById(targetId)
+            .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PATIENT_ID));
 
         model.setViewPatient(patientToView);
         model.setModelBeingShown(ModelItem.VIEW_PATIENT);
@@ -47,12 +44,9 @@ public class ViewPatientCommand extends Command {
         return new CommandResult(String.format(MESSAGE_VIEW_PATIENT_SUCCESS, patientToView));
     }
 
-    private Patient getSpecifiedPatient(Model model) {
-        return model.getFilteredPatientList()
-            .stream()
-            .filter(patient -> patient.getId().equals(targetId))
-            .findFirst()
-            .orElse(null);
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
@@ -56,6 +56,8 @@ public class CliSyntax {
     /* Prefix definitions for listing */
     public static final Prefix PREFIX_SORT_FLAG = new Prefix("s/");
     public static final Prefix PREFIX_PERIOD_FLAG = new Prefix("p/");
+    public static final Prefix PREFIX_PERIOD_START = new Prefix("from/");
+    public static final Prefix PREFIX_PERIOD_END = new Prefix("to/");
 
     /* Specific id prefixes for Referral*/
     public static final Prefix PREFIX_DOCTOR_ID = new Prefix("di/");
@@ -237,7 +237,7 @@ public class ParserUtil {
     public static Id parseId(String id) throws ParseException {
         requireNonNull(id);
         String trimmedId = id.trim();
-        if (trimmedId.length() != 4) {
+        if (!Id.isValidIdFormat(trimmedId)) {
             throw new ParseException(Id.MESSAGE_CONSTRAINTS);
         }
 
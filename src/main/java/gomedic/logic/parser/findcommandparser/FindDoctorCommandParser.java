@@ -5,11 +5,13 @@ import static gomedic.logic.parser.CliSyntax.NAME;
 import static gomedic.logic.parser.CliSyntax.PHONE_NUMBER;
 
 import java.util.Arrays;
+import java.util.function.Predicate;
 
 import gomedic.commons.core.Messages;
 import gomedic.logic.commands.findcommand.FindDoctorCommand;
 import gomedic.logic.parser.Parser;
 import gomedic.logic.parser.exceptions.ParseException;
+import gomedic.model.person.doctor.Doctor;
 import gomedic.model.util.DepartmentContainsKeywordsPredicate;
 import gomedic.model.util.NameContainsKeywordsPredicate;
 import gomedic.model.util.PhoneNumberContainsKeywordsPredicate;
@@ -22,41 +24,31 @@ public class FindDoctorCommandParser implements Parser<FindDoctorCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * The arguments are a query of FIELD/KEYWORDS terms, optionally combined with AND, OR, NOT and parentheses.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindDoctorCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
-            throw new ParseException(
-                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindDoctorCommand.MESSAGE_USAGE));
-        }
-
-        // First find out which field it is supposed to match to
-        // then create a FindCommand with the argument containing the corresponding
-        // Predicate
-        if (trimmedArgs.indexOf("/") == -1) {
-            throw new ParseException(
-                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindDoctorCommand.MESSAGE_USAGE));
-        }
-        String[] fieldAndArguments = trimmedArgs.split("/");
-        if (fieldAndArguments.length != 2) {
-            throw new ParseException(
-                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindDoctorCommand.MESSAGE_USAGE));
-        }
-        fieldAndArguments[1] = fieldAndArguments[1].trim();
-        String[] argumentKeywords = fieldAndArguments[1].split("\\s+");
-
-        String field = fieldAndArguments[0];
+        FindQueryParser<Doctor> queryParser =
+                new FindQueryParser<>(FindDoctorCommandParser::parseTerm, FindDoctorCommand.MESSAGE_USAGE);
+        return new FindDoctorCommand(queryParser.parse(args));
+    }
 
+    /**
+     * Returns the predicate on the {@code field} of doctors for the {@code argumentKeywords} of a single term
+     * of the query.
+     *
+     * @throws ParseException if {@code field} is not a field of doctors, or the keywords are invalid for it.
+     */
+    private static Predicate<Doctor> parseTerm(String field, String[] argumentKeywords) throws ParseException {
         switch (field) {
 
         case NAME:
-            return new FindDoctorCommand(new NameContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords)));
+            return new NameContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords));
         case PHONE_NUMBER:
-            return new FindDoctorCommand(new PhoneNumberContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords)));
+            return new PhoneNumberContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords));
         case DEPARTMENT:
-            return new FindDoctorCommand(new DepartmentContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords)));
+            return new DepartmentContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords));
         default:
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindDoctorCommand.MESSAGE_USAGE));
@@ -9,19 +9,27 @@ import static gomedic.logic.parser.CliSyntax.NAME;
 import static gomedic.logic.parser.CliSyntax.PHONE_NUMBER;
 import static gomedic.logic.parser.CliSyntax.WEIGHT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import gomedic.commons.core.Messages;
 import gomedic.logic.commands.findcommand.FindPatientCommand;
 import gomedic.logic.parser.Parser;
 import gomedic.logic.parser.exceptions.ParseException;
+import gomedic.model.person.patient.Patient;
 import gomedic.model.util.AgeContainsKeywordsPredicate;
 import gomedic.model.util.BloodTypeContainsKeywordsPredicate;
 import gomedic.model.util.GenderContainsKeywordsPredicate;
 import gomedic.model.util.HeightContainsKeywordsPredicate;
 import gomedic.model.util.MedicalConditionContainsKeywordsPredicate;
 import gomedic.model.util.NameContainsKeywordsPredicate;
+import gomedic.model.util.NumericRange;
+import gomedic.model.util.NumericRangePredicate;
 import gomedic.model.util.PhoneNumberContainsKeywordsPredicate;
+import gomedic.model.util.RangeIndex;
 import gomedic.model.util.WeightContainsKeywordsPredicate;
 
 
@@ -33,59 +41,50 @@ public class FindPatientCommandParser implements Parser<FindPatientCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * The arguments are a query of FIELD/KEYWORDS terms, optionally combined with AND, OR, NOT and parentheses.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindPatientCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
-            throw new ParseException(
-                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindPatientCommand.MESSAGE_USAGE));
-        }
-
-        // First find out which field it is supposed to match to
-        // then create a PatientCommand with the argument containing the corresponding
-        // Predicate
-        if (trimmedArgs.indexOf("/") == -1) {
-            throw new ParseException(
-                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindPatientCommand.MESSAGE_USAGE));
-        }
-        String[] fieldAndArguments = trimmedArgs.split("/");
-        if (fieldAndArguments.length != 2) {
-            throw new ParseException(
-                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindPatientCommand.MESSAGE_USAGE));
-        }
-        fieldAndArguments[1] = fieldAndArguments[1].trim();
-        String[] argumentKeywords = fieldAndArguments[1].split("\\s+");
-
-        String field = fieldAndArguments[0];
+        FindQueryParser<Patient> queryParser =
+                new FindQueryParser<>(FindPatientCommandParser::parseTerm, FindPatientCommand.MESSAGE_USAGE);
+        return new FindPatientCommand(queryParser.parse(args));
+    }
 
+    /**
+     * Returns the predicate on the {@code field} of patients for the {@code argumentKeywords} of a single term
+     * of the query.
+     *
+     * @throws ParseException if {@code field} is not a field of patients, or the keywords are invalid for it.
+     */
+    private static Predicate<Patient> parseTerm(String field, String[] argumentKeywords) throws ParseException {
         switch (field) {
 
         case NAME:
-            return new FindPatientCommand(new NameContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords)));
+            return new NameContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords));
 
         case PHONE_NUMBER:
-            return new FindPatientCommand(new PhoneNumberContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords)));
+            return new PhoneNumberContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords));
 
         case AGE:
-            return new FindPatientCommand(new AgeContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords)));
+            return parseNumericPredicate(argumentKeywords, RangeIndex.Field.AGE, AgeContainsKeywordsPredicate::new);
 
         case BLOOD_TYPE:
-            return new FindPatientCommand(new BloodTypeContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords)));
+            return new BloodTypeContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords));
 
         case GENDER:
-            return new FindPatientCommand(new GenderContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords)));
+            return new GenderContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords));
 
         case HEIGHT:
-            return new FindPatientCommand(new HeightContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords)));
+            return parseNumericPredicate(argumentKeywords, RangeIndex.Field.HEIGHT,
+                    HeightContainsKeywordsPredicate::new);
 
         case WEIGHT:
-            return new FindPatientCommand(new WeightContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords)));
+            return parseNumericPredicate(argumentKeywords, RangeIndex.Field.WEIGHT,
+                    WeightContainsKeywordsPredicate::new);
 
         case MEDICAL_CONDITION:
-            return new FindPatientCommand(new MedicalConditionContainsKeywordsPredicate<>(
-                    Arrays.asList(argumentKeywords)));
+            return new MedicalConditionContainsKeywordsPredicate<>(Arrays.asList(argumentKeywords));
 
         default:
             throw new ParseException(
@@ -93,4 +92,28 @@ public class FindPatientCommandParser implements Parser<FindPatientCommand> {
 
         }
     }
+
+    /**
+     * Returns a predicate on the numeric {@code field} of patients for the {@code argumentKeywords}.
+     * If any keyword is written as a range, e.g. {@code 60-80} or {@code >170}, the patients whose value lies in
+     * any of the ranges are matched, with a plain number matching that value only. Otherwise the keywords are
+     * matched as substrings by the predicate created by {@code keywordsPredicateFactory}.
+     *
+     * @throws ParseException if a range query contains an invalid range.
+     */
+    private static Predicate<Patient> parseNumericPredicate(String[] argumentKeywords, RangeIndex.Field field,
+            Function<List<String>, Predicate<Patient>> keywordsPredicateFactory) throws ParseException {
+        if (Arrays.stream(argumentKeywords).noneMatch(NumericRange::isRangeKeyword)) {
+            return keywordsPredicateFactory.apply(Arrays.asList(argumentKeywords));
+        }
+
+        List<NumericRange> ranges = new ArrayList<>();
+        for (String keyword : argumentKeywords) {
+            if (!NumericRange.isValidNumericRange(keyword)) {
+                throw new ParseException(NumericRange.MESSAGE_CONSTRAINTS);
+            }
+            ranges.add(new NumericRange(keyword));
+        }
+        return new NumericRangePredicate<>(field, ranges);
+    }
 }
@@ -0,0 +1,154 @@
+package gomedic.logic.parser.findcommandparser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import gomedic.commons.core.Messages;
+import gomedic.logic.parser.exceptions.ParseException;
+import gomedic.model.util.AllOfPredicate;
+import gomedic.model.util.AnyOfPredicate;
+import gomedic.model.util.NotPredicate;
+
+/**
+ * Parses the query of a find command into a predicate.
+ * <p>
+ * A query is made of terms written as {@code FIELD/KEYWORDS}, combined with {@code AND}, {@code OR}, {@code NOT}
+ * and parentheses, e.g. {@code b/O+ AND (m/diabetes OR NOT a/<60)}. {@code NOT} binds the tightest and {@code OR}
+ * the loosest. The operators are only recognised in upper case, so that they can still be searched for as
+ * keywords in lower case. A query made of a single term gives the predicate of that term itself.
+ */
+class FindQueryParser<T> {
+    static final String AND = "AND";
+    static final String OR = "OR";
+    static final String NOT = "NOT";
+    static final String OPEN_PARENTHESIS = "(";
+    static final String CLOSE_PARENTHESIS = ")";
+
+    private static final String FIELD_SEPARATOR = "/";
+
+    /**
+     * Parses the keywords of a single term of a query into a predicate on the field of the term.
+     */
+    @FunctionalInterface
+    interface TermParser<T> {
+        Predicate<T> parse(String field, String[] keywords) throws ParseException;
+    }
+
+    private final TermParser<T> termParser;
+    private final String messageUsage;
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Creates a parser of queries whose terms are parsed by {@code termParser}.
+     *
+     * @param messageUsage the usage message of the find command, shown when a query is not well formed.
+     */
+    FindQueryParser(TermParser<T> termParser, String messageUsage) {
+        requireNonNull(termParser);
+        requireNonNull(messageUsage);
+        this.termParser = termParser;
+        this.messageUsage = messageUsage;
+    }
+
+    /**
+     * Parses {@code query} into a predicate.
+     *
+     * @throws ParseException if {@code query} is not well formed, or any of its terms is invalid.
+     */
+    Predicate<T> parse(String query) throws ParseException {
+        String spacedQuery = query
+                .replace(OPEN_PARENTHESIS, " " + OPEN_PARENTHESIS + " ")
+                .replace(CLOSE_PARENTHESIS, " " + CLOSE_PARENTHESIS + " ")
+                .trim();
+        if (spacedQuery.isEmpty()) {
+            throw invalidQuery();
+        }
+
+        tokens = Arrays.asList(spacedQuery.split("\\s+"));
+        position = 0;
+        Predicate<T> predicate = parseOr();
+        if (position != tokens.size()) {
+            throw invalidQuery();
+        }
+        return predicate;
+    }
+
+    private Predicate<T> parseOr() throws ParseException {
+        List<Predicate<T>> predicates = new ArrayList<>();
+        predicates.add(parseAnd());
+        while (consumeIf(OR)) {
+            predicates.add(parseAnd());
+        }
+        return predicates.size() == 1 ? predicates.get(0) : new AnyOfPredicate<>(predicates);
+    }
+
+    private Predicate<T> parseAnd() throws ParseException {
+        List<Predicate<T>> predicates = new ArrayList<>();
+        predicates.add(parseNot());
+        while (consumeIf(AND)) {
+            predicates.add(parseNot());
+        }
+        return predicates.size() == 1 ? predicates.get(0) : new AllOfPredicate<>(predicates);
+    }
+
+    private Predicate<T> parseNot() throws ParseException {
+        if (consumeIf(NOT)) {
+            return new NotPredicate<>(parseNot());
+        }
+
+        if (consumeIf(OPEN_PARENTHESIS)) {
+            Predicate<T> predicate = parseOr();
+            if (!consumeIf(CLOSE_PARENTHESIS)) {
+                throw invalidQuery();
+            }
+            return predicate;
+        }
+
+        return parseTerm();
+    }
+
+    private Predicate<T> parseTerm() throws ParseException {
+        if (position == tokens.size() || !tokens.get(position).contains(FIELD_SEPARATOR)) {
+            throw invalidQuery();
+        }
+
+        String fieldAndFirstKeyword = tokens.get(position++);
+        int separatorIndex = fieldAndFirstKeyword.indexOf(FIELD_SEPARATOR);
+        String field = fieldAndFirstKeyword.substring(0, separatorIndex);
+        List<String> keywords = new ArrayList<>();
+        if (separatorIndex + 1 < fieldAndFirstKeyword.length()) {
+            keywords.add(fieldAndFirstKeyword.substring(separatorIndex + 1));
+        }
+
+        while (position < tokens.size() && isKeyword(tokens.get(position))) {
+            keywords.add(tokens.get(position++));
+        }
+
+        if (keywords.isEmpty() || keywords.stream().anyMatch(keyword -> keyword.contains(FIELD_SEPARATOR))) {
+            throw invalidQuery();
+        }
+        return termParser.parse(field, keywords.toArray(new String[0]));
+    }
+
+    private static boolean isKeyword(String token) {
+        return !List.of(AND, OR, NOT, OPEN_PARENTHESIS, CLOSE_PARENTHESIS).contains(token)
+                && !token.contains(FIELD_SEPARATOR);
+    }
+
+    private boolean consumeIf(String expectedToken) {
+        if (position < tokens.size() && tokens.get(position).equals(expectedToken)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private ParseException invalidQuery() {
+        return new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+    }
+}
@@ -7,6 +7,7 @@ import gomedic.logic.parser.CliSyntax;
 import gomedic.logic.parser.Parser;
 import gomedic.logic.parser.ParserUtil;
 import gomedic.logic.parser.exceptions.ParseException;
+import gomedic.model.commonfield.Time;
 
 /**
  * Parses input arguments and creates a new ListActivityCommand object.
@@ -24,7 +25,9 @@ public class ListActivityParser implements Parser<ListActivityCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args,
                         CliSyntax.PREFIX_SORT_FLAG,
-                        CliSyntax.PREFIX_PERIOD_FLAG);
+                        CliSyntax.PREFIX_PERIOD_FLAG,
+                        CliSyntax.PREFIX_PERIOD_START,
+                        CliSyntax.PREFIX_PERIOD_END);
 
         ListActivityCommand.Sort sortFlag = ListActivityCommand.Sort.ID;
         ListActivityCommand.Period periodFlag = ListActivityCommand.Period.ALL;
@@ -38,6 +41,11 @@ public class ListActivityParser implements Parser<ListActivityCommand> {
             throw new ParseException(ListActivityCommand.Sort.MESSAGE_CONSTRAINTS);
         }
 
+        if (argMultimap.getValue(CliSyntax.PREFIX_PERIOD_START).isPresent()
+                || argMultimap.getValue(CliSyntax.PREFIX_PERIOD_END).isPresent()) {
+            return parseCustomPeriod(argMultimap, sortFlag);
+        }
+
         try {
             if (argMultimap.getValue(CliSyntax.PREFIX_PERIOD_FLAG).isPresent()) {
                 periodFlag = ParserUtil
@@ -49,4 +57,21 @@ public class ListActivityParser implements Parser<ListActivityCommand> {
 
         return new ListActivityCommand(sortFlag, periodFlag);
     }
+
+    private ListActivityCommand parseCustomPeriod(ArgumentMultimap argMultimap, ListActivityCommand.Sort sortFlag)
+            throws ParseException {
+        if (argMultimap.getValue(CliSyntax.PREFIX_PERIOD_START).isEmpty()
+                || argMultimap.getValue(CliSyntax.PREFIX_PERIOD_END).isEmpty()
+                || argMultimap.getValue(CliSyntax.PREFIX_PERIOD_FLAG).isPresent()) {
+            throw new ParseException(ListActivityCommand.MESSAGE_INVALID_CUSTOM_PERIOD);
+        }
+
+        Time periodStart = ParserUtil.parseTime(argMultimap.getValue(CliSyntax.PREFIX_PERIOD_START).get());
+        Time periodEnd = ParserUtil.parseTime(argMultimap.getValue(CliSyntax.PREFIX_PERIOD_END).get());
+        if (periodStart.isAfter(periodEnd)) {
+            throw new ParseException(ListActivityCommand.MESSAGE_INVALID_CUSTOM_PERIOD);
+        }
+
+        return new ListActivityCommand(sortFlag, periodStart, periodEnd);
+    }
 }
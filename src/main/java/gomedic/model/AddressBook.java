@@ -1,17 +1,36 @@
 package gomedic.model;
 
+import static gomedic.model.util.NumericRangePredicate.getSearchedValue;
 import static java.util.Objects.requireNonNull;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import gomedic.model.activity.Activity;
 import gomedic.model.activity.UniqueActivityList;
+import gomedic.model.commonfield.Id;
 import gomedic.model.person.UniquePersonList;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.patient.Patient;
+import gomedic.model.person.patient.PatientId;
 import gomedic.model.userprofile.ObservableUserProfile;
 import gomedic.model.userprofile.UserProfile;
+import gomedic.model.util.BitmapIndex;
+import gomedic.model.util.BloodTypeContainsKeywordsPredicate;
+import gomedic.model.util.DepartmentContainsKeywordsPredicate;
+import gomedic.model.util.GenderContainsKeywordsPredicate;
+import gomedic.model.util.KeywordIndex;
+import gomedic.model.util.MedicalConditionContainsKeywordsPredicate;
+import gomedic.model.util.NameContainsKeywordsPredicate;
+import gomedic.model.util.PhoneNumberContainsKeywordsPredicate;
+import gomedic.model.util.RangeIndex;
 import gomedic.model.util.SampleDataUtil;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
@@ -27,6 +46,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList<Doctor> doctors;
     private final UniquePersonList<Patient> patients;
 
+    // data that has changed since the address book was last marked as saved, everything until then
+    private final ModifiedData modifiedData = new ModifiedData();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -40,9 +62,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         userProfile = new ObservableUserProfile();
         userProfile.setUserProfile(SampleDataUtil.getSampleUserProfile());
 
+        EnumSet.allOf(DataType.class).forEach(modifiedData::addAll);
+
         activities = new UniqueActivityList();
-        doctors = new UniquePersonList<>();
-        patients = new UniquePersonList<>();
+        // the fields searched by the find commands are kept in search indexes
+        doctors = new UniquePersonList<>(List.of(
+                new KeywordIndex<>(Map.<KeywordIndex.Field, Function<? super Doctor, String>>of(
+                        KeywordIndex.Field.NAME, NameContainsKeywordsPredicate::getSearchedText,
+                        KeywordIndex.Field.PHONE, PhoneNumberContainsKeywordsPredicate::getSearchedText,
+                        KeywordIndex.Field.DEPARTMENT, DepartmentContainsKeywordsPredicate::getSearchedText))));
+        patients = new UniquePersonList<>(List.of(
+                new KeywordIndex<>(Map.<KeywordIndex.Field, Function<? super Patient, String>>of(
+                        KeywordIndex.Field.NAME, NameContainsKeywordsPredicate::getSearchedText,
+                        KeywordIndex.Field.PHONE, PhoneNumberContainsKeywordsPredicate::getSearchedText)),
+                new BitmapIndex<>(Map.<KeywordIndex.Field, Function<? super Patient, String>>of(
+                        KeywordIndex.Field.BLOOD_TYPE, BloodTypeContainsKeywordsPredicate::getSearchedText,
+                        KeywordIndex.Field.GENDER, GenderContainsKeywordsPredicate::getSearchedText,
+                        KeywordIndex.Field.MEDICAL_CONDITION,
+                        MedicalConditionContainsKeywordsPredicate::getSearchedText)),
+                new RangeIndex<>(Map.<RangeIndex.Field, ToIntFunction<? super Patient>>of(
+                        RangeIndex.Field.AGE, patient -> getSearchedValue(RangeIndex.Field.AGE, patient),
+                        RangeIndex.Field.HEIGHT, patient -> getSearchedValue(RangeIndex.Field.HEIGHT, patient),
+                        RangeIndex.Field.WEIGHT, patient -> getSearchedValue(RangeIndex.Field.WEIGHT, patient)))));
     }
 
     /**
@@ -76,6 +117,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setUserProfile(UserProfile userProfile) {
         this.userProfile.setUserProfile(userProfile.copy());
+        modifiedData.addAll(DataType.USER_PROFILE);
     }
 
     /**
@@ -84,6 +126,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setActivities(List<Activity> activities) {
         this.activities.setActivities(activities);
+        modifiedData.addAll(DataType.ACTIVITIES);
+    }
+
+    /**
+     * Replaces the contents of the activity list with {@code activities}, without looking for duplicate and
+     * conflicting activities. {@code activities} must already be known to be free of them.
+     */
+    public void setCheckedActivities(List<Activity> activities) {
+        this.activities.setCheckedActivities(activities);
+        modifiedData.addAll(DataType.ACTIVITIES);
     }
 
     /**
@@ -92,6 +144,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setDoctors(List<Doctor> doctors) {
         this.doctors.setPersons(doctors);
+        modifiedData.addAll(DataType.DOCTORS);
     }
 
     /**
@@ -100,6 +153,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPatients(List<Patient> patients) {
         this.patients.setPersons(patients);
+        modifiedData.addAll(DataType.PATIENTS);
     }
 
     //// person and activity-level operations
@@ -128,6 +182,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         return activities.contains(activity);
     }
 
+    /**
+     * Returns the doctor with the given {@code id} in the address book, if any.
+     */
+    public Optional<Doctor> getDoctorById(Id id) {
+        requireNonNull(id);
+        return doctors.getById(id);
+    }
+
+    /**
+     * Returns the patient with the given {@code id} in the address book, if any.
+     */
+    public Optional<Patient> getPatientById(Id id) {
+        requireNonNull(id);
+        return patients.getById(id);
+    }
+
+    /**
+     * Returns the activity with the given {@code id} in the address book, if any.
+     */
+    public Optional<Activity> getActivityById(Id id) {
+        requireNonNull(id);
+        return activities.getById(id);
+    }
+
     /**
      * Returns true if there exists another conflicting activity
      * in terms of timing in the addressbook.
@@ -143,6 +221,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addDoctor(Doctor d) {
         doctors.add(d);
+        modifiedData.add(DataType.DOCTORS, d.getId());
     }
 
     /**
@@ -151,6 +230,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPatient(Patient p) {
         patients.add(p);
+        modifiedData.add(DataType.PATIENTS, p.getId());
     }
 
     /**
@@ -159,6 +239,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addActivity(Activity a) {
         activities.add(a);
+        modifiedData.add(DataType.ACTIVITIES, a.getActivityId());
     }
 
     /**
@@ -206,6 +287,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedActivity);
 
         activities.setActivity(target, editedActivity);
+        modifiedData.add(DataType.ACTIVITIES, target.getActivityId());
+        modifiedData.add(DataType.ACTIVITIES, editedActivity.getActivityId());
     }
 
     /**
@@ -218,6 +301,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         doctors.setPerson(target, editedPerson);
+        modifiedData.add(DataType.DOCTORS, target.getId());
+        modifiedData.add(DataType.DOCTORS, editedPerson.getId());
     }
 
     /**
@@ -230,6 +315,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         patients.setPerson(target, editedPerson);
+        modifiedData.add(DataType.PATIENTS, target.getId());
+        modifiedData.add(DataType.PATIENTS, editedPerson.getId());
     }
 
     /**
@@ -241,6 +328,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeDoctor(Doctor key) {
         doctors.remove(key);
+        modifiedData.add(DataType.DOCTORS, key.getId());
     }
 
     /**
@@ -252,6 +340,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePatient(Patient key) {
         patients.remove(key);
+        modifiedData.add(DataType.PATIENTS, key.getId());
     }
 
     /**
@@ -261,6 +350,55 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeActivity(Activity activity) {
         activities.remove(activity);
+        modifiedData.add(DataType.ACTIVITIES, activity.getActivityId());
+    }
+
+    /**
+     * Removes all the appointments of the patient with {@code patientId} from this {@code AddressBook}.
+     * The patient may or may not have any appointment registered.
+     */
+    public void removePatientAppointments(PatientId patientId) {
+        activities.getAppointmentsOf(patientId)
+                .forEach(appointment -> modifiedData.add(DataType.ACTIVITIES, appointment.getActivityId()));
+        activities.removeAppointmentsOf(patientId);
+    }
+
+    /**
+     * Returns the appointments of the patient with {@code patientId}, sorted by start time.
+     */
+    public List<Activity> getPatientAppointments(PatientId patientId) {
+        return activities.getAppointmentsOf(patientId);
+    }
+
+    /**
+     * Returns a predicate on doctors that gives the same results as {@code predicate}, answered from the keyword
+     * index of the doctor list where possible.
+     */
+    public Predicate<Doctor> resolveDoctorPredicate(Predicate<? super Doctor> predicate) {
+        return doctors.resolve(predicate);
+    }
+
+    /**
+     * Returns a predicate on patients that gives the same results as {@code predicate}, answered from the keyword
+     * index of the patient list where possible.
+     */
+    public Predicate<Patient> resolvePatientPredicate(Predicate<? super Patient> predicate) {
+        return patients.resolve(predicate);
+    }
+
+    /**
+     * Returns a predicate on activities that gives the same results as {@code predicate}, answered from the
+     * keyword index of the activity list where possible.
+     */
+    public Predicate<Activity> resolveActivityPredicate(Predicate<? super Activity> predicate) {
+        return activities.resolve(predicate);
+    }
+
+    /**
+     * Marks all the data in this {@code AddressBook} as saved.
+     */
+    public void markAsSaved() {
+        modifiedData.clear();
     }
 
     //// util methods
@@ -284,6 +422,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return userProfile.getUnmodifiableUserProfile();
     }
 
+    @Override
+    public Set<DataType> getModifiedDataTypes() {
+        return modifiedData.getDataTypes();
+    }
+
+    @Override
+    public ModifiedData getModifiedData() {
+        return new ModifiedData(modifiedData);
+    }
+
     @Override
     public ObservableList<Doctor> getDoctorListSortedById() {
         return doctors.asUnmodifiableSortedByIdObservableList();
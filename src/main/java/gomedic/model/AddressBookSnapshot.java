@@ -0,0 +1,110 @@
+package gomedic.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Set;
+
+import gomedic.model.activity.Activity;
+import gomedic.model.person.doctor.Doctor;
+import gomedic.model.person.patient.Patient;
+import gomedic.model.userprofile.ObservableUserProfile;
+import gomedic.model.userprofile.UserProfile;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An unmodifiable copy of the data of an address book at some point in time.
+ * <p>
+ * Only the lists of the address book are copied, sharing their immutable items, so taking a snapshot runs in O(n)
+ * time without building any of the indexes of an {@code AddressBook}. The snapshot stays the same however the
+ * address book is changed afterwards, so it can be read from another thread.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final ObservableUserProfile userProfile = new ObservableUserProfile();
+    private final ObservableList<Activity> activities;
+    private final ObservableList<Doctor> doctors;
+    private final ObservableList<Patient> patients;
+    private final ModifiedData modifiedData;
+
+    /**
+     * Creates a snapshot of the current data of {@code addressBook}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        this(addressBook.getUserProfile(), copyOf(addressBook.getActivityListSortedById()),
+                copyOf(addressBook.getDoctorListSortedById()), copyOf(addressBook.getPatientListSortedById()),
+                addressBook.getModifiedData());
+    }
+
+    private AddressBookSnapshot(UserProfile userProfile, ObservableList<Activity> activities,
+            ObservableList<Doctor> doctors, ObservableList<Patient> patients, ModifiedData modifiedData) {
+        this.userProfile.setUserProfile(userProfile);
+        this.activities = activities;
+        this.doctors = doctors;
+        this.patients = patients;
+        this.modifiedData = modifiedData;
+    }
+
+    /**
+     * Returns a snapshot of the same data as this one, with a copy of {@code modifiedData} as its modified data.
+     */
+    public AddressBookSnapshot withModifiedData(ModifiedData modifiedData) {
+        requireNonNull(modifiedData);
+        return new AddressBookSnapshot(userProfile.getUserProfile(), activities, doctors, patients,
+                new ModifiedData(modifiedData));
+    }
+
+    private static <T> ObservableList<T> copyOf(ObservableList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public UserProfile getUserProfile() {
+        return userProfile.getUserProfile();
+    }
+
+    @Override
+    public ObservableValue<UserProfile> getObservableUserProfile() {
+        return userProfile.getUnmodifiableUserProfile();
+    }
+
+    @Override
+    public Set<DataType> getModifiedDataTypes() {
+        return modifiedData.getDataTypes();
+    }
+
+    @Override
+    public ModifiedData getModifiedData() {
+        return new ModifiedData(modifiedData);
+    }
+
+    @Override
+    public ObservableList<Doctor> getDoctorListSortedById() {
+        return doctors;
+    }
+
+    @Override
+    public ObservableList<Patient> getPatientListSortedById() {
+        return patients;
+    }
+
+    @Override
+    public ObservableList<Activity> getActivityListSortedById() {
+        return activities;
+    }
+
+    /**
+     * Returns the activities sorted by their start time, which are sorted on every call.
+     */
+    @Override
+    public ObservableList<Activity> getActivityListSortedByStartTime() {
+        return FXCollections.unmodifiableObservableList(
+                activities.sorted(Comparator.comparing(activity -> activity.getStartTime().time)));
+    }
+
+    @Override
+    public String toString() {
+        return activities.size() + " activities; " + doctors.size() + " doctors; " + patients.size() + " patients";
+    }
+}
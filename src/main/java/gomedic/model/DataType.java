@@ -0,0 +1,11 @@
+package gomedic.model;
+
+/**
+ * The kinds of data kept in an address book, which are tracked separately for changes that are not saved yet.
+ */
+public enum DataType {
+    USER_PROFILE,
+    PATIENTS,
+    DOCTORS,
+    ACTIVITIES
+}
@@ -1,12 +1,17 @@
 package gomedic.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import gomedic.commons.core.GuiSettings;
 import gomedic.model.activity.Activity;
+import gomedic.model.commonfield.Id;
+import gomedic.model.commonfield.Time;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.patient.Patient;
+import gomedic.model.person.patient.PatientId;
 import gomedic.model.userprofile.UserProfile;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
@@ -56,6 +61,11 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Marks the address book data as saved, so that it is not saved again until it is changed.
+     */
+    void markAddressBookAsSaved();
+
     /**
      * Replaces the user profile with the profile supplied {@code userProfile}.
      *
@@ -84,6 +94,11 @@ public interface Model {
      */
     boolean hasDoctor(Doctor doctor);
 
+    /**
+     * Returns the doctor with the given {@code id} in the addressbook, if any.
+     */
+    Optional<Doctor> getDoctorById(Id id);
+
     /**
      * Deletes the given doctor.
      * The doctor must exist in the address book.
@@ -113,6 +128,11 @@ public interface Model {
      */
     boolean hasActivity(Activity activity);
 
+    /**
+     * Returns the activity with the given {@code id} in the addressbook, if any.
+     */
+    Optional<Activity> getActivityById(Id id);
+
     /**
      * Deletes the given activity.
      * The activity must exist in the address book.
@@ -125,6 +145,11 @@ public interface Model {
      */
     void deletePatientAssociatedAppointments(Patient associatedPatient);
 
+    /**
+     * Returns the appointments of the patient with {@code patientId}, sorted by start time.
+     */
+    List<Activity> getPatientAppointments(PatientId patientId);
+
     /**
      * Sets an activity in the model with another activity.
      * The activity must exist in the address book.
@@ -169,6 +194,11 @@ public interface Model {
      */
     boolean hasPatient(Patient patient);
 
+    /**
+     * Returns the patient with the given {@code id} in the addressbook, if any.
+     */
+    Optional<Patient> getPatientById(Id id);
+
     /** Returns a copy of the user profile */
     UserProfile getUserProfile();
 
@@ -222,6 +252,12 @@ public interface Model {
      */
     void updateFilteredActivitiesList(Predicate<? super Activity> predicate);
 
+    /**
+     * Updates the filter of the filtered activity list to show only the activities starting from {@code from}
+     * until {@code to}, both inclusive.
+     */
+    void updateFilteredActivitiesListToPeriod(Time from, Time to);
+
     /**
      * Returns the integer showing current item being shown.
      * 0 -> activity
@@ -3,6 +3,8 @@ package gomedic.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -10,6 +12,8 @@ import gomedic.commons.core.GuiSettings;
 import gomedic.commons.core.LogsCenter;
 import gomedic.commons.util.CollectionUtil;
 import gomedic.model.activity.Activity;
+import gomedic.model.commonfield.Id;
+import gomedic.model.commonfield.Time;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.patient.Patient;
 import gomedic.model.person.patient.PatientId;
@@ -112,23 +116,38 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void markAddressBookAsSaved() {
+        addressBook.markAsSaved();
+    }
+
     @Override
     public void updateFilteredDoctorList(Predicate<? super Doctor> predicate) {
         requireNonNull(predicate);
-        filteredDoctors.setPredicate(predicate);
+        filteredDoctors.setPredicate(addressBook.resolveDoctorPredicate(predicate));
     }
 
     @Override
     public void updateFilteredPatientList(Predicate<? super Patient> predicate) {
         requireNonNull(predicate);
-        filteredPatients.setPredicate(predicate);
+        filteredPatients.setPredicate(addressBook.resolvePatientPredicate(predicate));
     }
 
     @Override
     public void updateFilteredActivitiesList(Predicate<? super Activity> predicate) {
         requireNonNull(predicate);
-        filteredActivitiesById.setPredicate(predicate);
-        filteredActivitiesByStartTime.setPredicate(predicate);
+        Predicate<Activity> resolvedPredicate = addressBook.resolveActivityPredicate(predicate);
+        filteredActivitiesById.setPredicate(resolvedPredicate);
+        filteredActivitiesByStartTime.setPredicate(resolvedPredicate);
+    }
+
+    @Override
+    public void updateFilteredActivitiesListToPeriod(Time from, Time to) {
+        CollectionUtil.requireAllNonNull(from, to);
+        // the filtered lists test every activity, so a change of period takes O(n) time, but each test only
+        // compares the start time of the activity with the ends of the period
+        updateFilteredActivitiesList(activity ->
+                !activity.getStartTime().isBefore(from) && !activity.getStartTime().isAfter(to));
     }
 
     @Override
@@ -181,6 +200,12 @@ public class ModelManager implements Model {
         return addressBook.hasDoctor(doctor);
     }
 
+    @Override
+    public Optional<Doctor> getDoctorById(Id id) {
+        requireNonNull(id);
+        return addressBook.getDoctorById(id);
+    }
+
     @Override
     public void deleteDoctor(Doctor target) {
         addressBook.removeDoctor(target);
@@ -214,6 +239,12 @@ public class ModelManager implements Model {
         return addressBook.hasPatient(patient);
     }
 
+    @Override
+    public Optional<Patient> getPatientById(Id id) {
+        requireNonNull(id);
+        return addressBook.getPatientById(id);
+    }
+
     @Override
     public void addActivity(Activity activity) {
         requireNonNull(activity);
@@ -232,6 +263,12 @@ public class ModelManager implements Model {
         return addressBook.hasActivity(activity);
     }
 
+    @Override
+    public Optional<Activity> getActivityById(Id id) {
+        requireNonNull(id);
+        return addressBook.getActivityById(id);
+    }
+
     @Override
     public void deleteActivity(Activity target) {
         addressBook.removeActivity(target);
@@ -239,12 +276,13 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePatientAssociatedAppointments(Patient associatedPatient) {
-        PatientId id = associatedPatient.getId();
-        FilteredList<Activity> associatedAppointments = addressBook.getActivityListSortedById()
-                .filtered(x -> id.equals(x.getPatientId()));
-        while (!associatedAppointments.isEmpty()) {
-            deleteActivity(associatedAppointments.get(0));
-        }
+        addressBook.removePatientAppointments(associatedPatient.getId());
+    }
+
+    @Override
+    public List<Activity> getPatientAppointments(PatientId patientId) {
+        requireNonNull(patientId);
+        return addressBook.getPatientAppointments(patientId);
     }
 
     @Override
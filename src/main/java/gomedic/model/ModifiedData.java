@@ -0,0 +1,105 @@
+package gomedic.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import gomedic.model.commonfield.Id;
+
+/**
+ * The data of an address book changed since it was last saved.
+ * <p>
+ * Besides the kinds of data changed, the ids of the items changed one at a time are kept for each list, so that
+ * a save only has to look at those items. A list replaced as a whole is only known to be changed.
+ */
+public class ModifiedData {
+    private final Set<DataType> dataTypes = EnumSet.noneOf(DataType.class);
+    // the ids of the items changed in each modified list, absent for a list that may have changed as a whole
+    private final Map<DataType, Set<Id>> ids = new EnumMap<>(DataType.class);
+
+    /**
+     * Creates a {@code ModifiedData} with nothing modified.
+     */
+    public ModifiedData() {
+    }
+
+    /**
+     * Creates a {@code ModifiedData} with the data modified in {@code toBeCopied}.
+     */
+    public ModifiedData(ModifiedData toBeCopied) {
+        addAll(toBeCopied);
+    }
+
+    /**
+     * Marks the item with {@code id} in the list of {@code dataType} as modified.
+     */
+    public void add(DataType dataType, Id id) {
+        requireNonNull(dataType);
+        requireNonNull(id);
+        if (dataTypes.add(dataType)) {
+            ids.put(dataType, new HashSet<>());
+        }
+
+        Set<Id> modifiedIds = ids.get(dataType);
+        if (modifiedIds != null) {
+            modifiedIds.add(id);
+        }
+    }
+
+    /**
+     * Marks all the data of {@code dataType} as modified.
+     */
+    public void addAll(DataType dataType) {
+        requireNonNull(dataType);
+        dataTypes.add(dataType);
+        ids.remove(dataType);
+    }
+
+    /**
+     * Marks the data modified in {@code other} as modified.
+     */
+    public void addAll(ModifiedData other) {
+        requireNonNull(other);
+        for (DataType dataType : other.dataTypes) {
+            Optional<Set<Id>> otherIds = other.getIds(dataType);
+            if (otherIds.isEmpty()) {
+                addAll(dataType);
+            } else {
+                otherIds.get().forEach(id -> add(dataType, id));
+            }
+        }
+    }
+
+    /**
+     * Marks all the data as saved.
+     */
+    public void clear() {
+        dataTypes.clear();
+        ids.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the kinds of data modified.
+     */
+    public Set<DataType> getDataTypes() {
+        return Collections.unmodifiableSet(dataTypes);
+    }
+
+    /**
+     * Returns an unmodifiable view of the ids of the items modified in the list of {@code dataType}, or an empty
+     * {@code Optional} if any of its items may have been modified.
+     */
+    public Optional<Set<Id>> getIds(DataType dataType) {
+        requireNonNull(dataType);
+        if (!dataTypes.contains(dataType)) {
+            return Optional.of(Collections.emptySet());
+        }
+        return Optional.ofNullable(ids.get(dataType)).map(Collections::unmodifiableSet);
+    }
+}
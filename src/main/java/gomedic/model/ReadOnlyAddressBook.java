@@ -1,5 +1,7 @@
 package gomedic.model;
 
+import java.util.Set;
+
 import gomedic.model.activity.Activity;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.patient.Patient;
@@ -21,6 +23,16 @@ public interface ReadOnlyAddressBook {
      */
     ObservableValue<UserProfile> getObservableUserProfile();
 
+    /**
+     * Returns an unmodifiable view of the kinds of data changed since the address book was last marked as saved.
+     */
+    Set<DataType> getModifiedDataTypes();
+
+    /**
+     * Returns a copy of the data changed since the address book was last marked as saved.
+     */
+    ModifiedData getModifiedData();
+
     /**
      * Returns an unmodifiable view of the doctors list.
      * Guarantee: This list will not contain any duplicate doctors.
@@ -11,13 +11,13 @@ import gomedic.model.commonfield.Id;
  */
 public class ActivityId extends Id {
     public static final String MESSAGE_CONSTRAINTS =
-            "Id should only contain from 1 to 999, Prefix should be A";
+            "Id should only contain from 1 to " + MAXIMUM_ASSIGNABLE_IDS + ", Prefix should be A";
     private static final Character ACTIVITY_PREFIX = 'A';
 
     /**
      * {@inheritDoc}
      *
-     * @param id Integer from 1 to 999
+     * @param id Integer from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}
      */
     public ActivityId(Integer id) {
         super(id, ACTIVITY_PREFIX);
@@ -27,7 +27,7 @@ public class ActivityId extends Id {
     /**
      * {@inheritDoc}
      *
-     * @param id a string of format "PDDD", where "P" is an alphabetic character and "D" is a decimal number
+     * @param id a string of format "PDDD", where "P" is an alphabetic character followed by 3 to 7 decimal digits
      */
     public ActivityId(String id) {
         super(Integer.parseInt(id.substring(1)), ACTIVITY_PREFIX);
@@ -36,18 +36,18 @@ public class ActivityId extends Id {
 
     /**
      * Returns true if a given stringId is a valid activity valid id.
-     * Valid if integer is 3 digit, from 1 to 999, prefix is A.
+     * Valid if integer is from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}, prefix is A.
      *
      * @param id Id.
      * @return true if valid, else false.
      */
     public static boolean isValidActivityId(Id id) {
-        return isValidActivityId(id.toString());
+        return isValidId(id.getIdNumber(), id.getPrefix()) && id.getPrefix() == ACTIVITY_PREFIX;
     }
 
     /**
      * Returns true if a given stringId is a valid activity valid id.
-     * Valid if integer is 3 digit, from 1 to 999, prefix is A.
+     * Valid if integer is from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}, prefix is A.
      *
      * @param aid String.
      * @return true if valid, else false.
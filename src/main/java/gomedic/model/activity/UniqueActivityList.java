@@ -2,14 +2,30 @@ package gomedic.model.activity;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import gomedic.commons.util.CollectionUtil;
 import gomedic.model.activity.exceptions.ActivityNotFoundException;
 import gomedic.model.activity.exceptions.ConflictingActivityException;
 import gomedic.model.activity.exceptions.DuplicateActivityFoundException;
-import gomedic.model.commonfield.exceptions.MaxAddressBookCapacityReached;
+import gomedic.model.commonfield.Id;
+import gomedic.model.commonfield.IdAllocator;
+import gomedic.model.person.patient.PatientId;
+import gomedic.model.util.ActivityTitleContainsKeywordsPredicate;
+import gomedic.model.util.KeywordIndex;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -20,42 +36,52 @@ import javafx.collections.ObservableList;
  * in {@code Activity#isConflicting(Activity)}. Therefore, the elements are not overlapping
  * and uniquely identified by its id.
  * <p>
+ * Since the elements never overlap, an index of the elements keyed by their start time is also ordered by their
+ * end time. Conflict checks are therefore answered by a range query on that index in O(log n + k) time where
+ * k is the number of conflicting activities.
+ * <p>
+ * The activities are also kept in a hash map keyed by their id, so that membership checks run in O(1) time.
+ * <p>
+ * Appointments are additionally indexed by their patient id, so the appointments of a patient can be retrieved
+ * without going through the activities of other patients.
+ * <p>
+ * The words in the title and description of the activities are kept in a {@code KeywordIndex}, so that keyword
+ * searches do not have to go through every activity.
+ * <p>
  * Supports  a minimal set of list operations.
  */
 public class UniqueActivityList implements Iterable<Activity> {
-    public static final int MAX_CAPACITY = 999;
     private final ObservableList<Activity> internalList = FXCollections.observableArrayList();
     private final ObservableList<Activity> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // both sorted views are kept for the lifetime of the list so that they are sorted once
+    // and then updated incrementally
+    private final ObservableList<Activity> internalSortedByIdList = internalUnmodifiableList
+            .sorted(Comparator.comparingInt(activity -> activity.getActivityId().getIdNumber()));
+    private final ObservableList<Activity> internalSortedByStartTimeList = internalUnmodifiableList
+            .sorted(Comparator.comparing(activity -> activity.getStartTime().time));
+    private final NavigableMap<LocalDateTime, Activity> startTimeIndex = new TreeMap<>();
+    private final Map<Id, Activity> idIndex = new HashMap<>();
+    private final Map<PatientId, NavigableMap<LocalDateTime, Activity>> appointmentIndex = new HashMap<>();
+    private final IdAllocator idAllocator = new IdAllocator();
+    private final KeywordIndex<Activity> keywordIndex = new KeywordIndex<>(
+            Map.<KeywordIndex.Field, Function<? super Activity, String>>of(
+                    KeywordIndex.Field.TITLE_OR_DESCRIPTION, ActivityTitleContainsKeywordsPredicate::getSearchedText));
 
     /**
-     * Returns the new activity id available in this list.
+     * Returns the lowest activity id not used by any activity in this list.
      * If it's an empty list, return id 1.
      */
     public int getNewActivityId() {
-        if (internalList.size() == 0) {
-            return 1;
-        }
-
-        int counter = 1;
-        // Find first id that does not exist in the list starting from D001
-        for (Iterator<Integer> it = internalList
-                .stream()
-                .map(entry -> entry.getActivityId().getIdNumber())
-                .sorted()
-                .iterator(); it.hasNext(); counter++) {
-            int id = it.next();
-            if (id != counter) {
-                return counter;
-            }
-        }
-
-        // all the id are in sequences, make a new one
-        if (counter <= MAX_CAPACITY) {
-            return counter;
-        }
+        return idAllocator.getLowestAvailableId();
+    }
 
-        throw new MaxAddressBookCapacityReached();
+    /**
+     * Returns the activity in the list with the given {@code id}, if any.
+     */
+    public Optional<Activity> getById(Id id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
@@ -66,8 +92,8 @@ public class UniqueActivityList implements Iterable<Activity> {
     public void setActivity(Activity target, Activity editedActivity) {
         CollectionUtil.requireAllNonNull(target, editedActivity);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Activity storedTarget = idIndex.get(target.getActivityId());
+        if (storedTarget == null) {
             throw new ActivityNotFoundException();
         }
 
@@ -79,7 +105,18 @@ public class UniqueActivityList implements Iterable<Activity> {
             throw new ConflictingActivityException();
         }
 
-        internalList.set(index, editedActivity);
+        keywordIndex.remove(storedTarget);
+        keywordIndex.add(editedActivity);
+        // finding the position of the activity is the only step of the edit that goes through the list
+        internalList.set(internalList.indexOf(storedTarget), editedActivity);
+        startTimeIndex.remove(storedTarget.getStartTime().time);
+        startTimeIndex.put(editedActivity.getStartTime().time, editedActivity);
+        idIndex.remove(storedTarget.getActivityId());
+        idIndex.put(editedActivity.getActivityId(), editedActivity);
+        removeFromAppointmentIndex(storedTarget);
+        addToAppointmentIndex(editedActivity);
+        idAllocator.release(storedTarget.getActivityId().getIdNumber());
+        idAllocator.take(editedActivity.getActivityId().getIdNumber());
     }
 
     /**
@@ -96,7 +133,12 @@ public class UniqueActivityList implements Iterable<Activity> {
             throw new ConflictingActivityException();
         }
 
+        keywordIndex.add(toAdd);
         internalList.add(toAdd);
+        startTimeIndex.put(toAdd.getStartTime().time, toAdd);
+        idIndex.put(toAdd.getActivityId(), toAdd);
+        addToAppointmentIndex(toAdd);
+        idAllocator.take(toAdd.getActivityId().getIdNumber());
     }
 
     /**
@@ -104,19 +146,42 @@ public class UniqueActivityList implements Iterable<Activity> {
      */
     public boolean contains(Activity toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return idIndex.containsKey(toCheck.getActivityId());
     }
 
     /**
-     * Returns true if the list contains conflicting activity.
+     * Returns true if the list contains an activity, other than the one with the same id,
+     * that is conflicting with the given argument.
      */
     public boolean containsConflicting(Activity toCheck) {
+        return !getConflictingActivities(toCheck).isEmpty();
+    }
+
+    /**
+     * Returns the activities in the list that are conflicting with {@code toCheck}, sorted by start time.
+     * The activity with the same id as {@code toCheck} is not considered as conflicting with it.
+     */
+    public List<Activity> getConflictingActivities(Activity toCheck) {
         requireNonNull(toCheck);
-        if (contains(toCheck)) {
-            return internalList.stream().filter(toCheck::isConflicting).count() > 1;
-        } else {
-            return internalList.stream().anyMatch(toCheck::isConflicting);
+        List<Activity> conflictingActivities = new ArrayList<>();
+
+        // Only activities starting before toCheck ends may overlap. Walking them from the latest start time,
+        // the first one that ends before toCheck starts means none of the earlier ones overlap either.
+        for (Activity activity : startTimeIndex
+                .headMap(toCheck.getEndTime().time, false)
+                .descendingMap()
+                .values()) {
+            if (!activity.getEndTime().isAfter(toCheck.getStartTime())) {
+                break;
+            }
+
+            if (!activity.equals(toCheck)) {
+                conflictingActivities.add(activity);
+            }
         }
+
+        Collections.reverse(conflictingActivities);
+        return conflictingActivities;
     }
 
     /**
@@ -125,67 +190,176 @@ public class UniqueActivityList implements Iterable<Activity> {
      */
     public void remove(Activity toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Activity removed = idIndex.get(toRemove.getActivityId());
+        if (removed == null) {
             throw new ActivityNotFoundException();
         }
+
+        keywordIndex.remove(removed);
+        internalList.remove(removed);
+        startTimeIndex.remove(removed.getStartTime().time);
+        idIndex.remove(removed.getActivityId());
+        removeFromAppointmentIndex(removed);
+        idAllocator.release(removed.getActivityId().getIdNumber());
     }
 
+    /**
+     * Returns the appointments of the patient with {@code patientId}, sorted by start time.
+     */
+    public List<Activity> getAppointmentsOf(PatientId patientId) {
+        requireNonNull(patientId);
+        NavigableMap<LocalDateTime, Activity> appointments = appointmentIndex.get(patientId);
+        return appointments == null
+                ? List.of()
+                : List.copyOf(appointments.values());
+    }
+
+    /**
+     * Removes all the appointments of the patient with {@code patientId} from the list.
+     * The patient may or may not have any appointment in the list.
+     */
+    public void removeAppointmentsOf(PatientId patientId) {
+        requireNonNull(patientId);
+        NavigableMap<LocalDateTime, Activity> appointments = appointmentIndex.remove(patientId);
+        if (appointments == null) {
+            return;
+        }
+
+        for (Activity appointment : appointments.values()) {
+            keywordIndex.remove(appointment);
+            startTimeIndex.remove(appointment.getStartTime().time);
+            idIndex.remove(appointment.getActivityId());
+            idAllocator.release(appointment.getActivityId().getIdNumber());
+        }
+        // removes every appointment of the patient in a single pass over the list
+        internalList.removeIf(activity -> patientId.equals(activity.getPatientId()));
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setActivities(UniqueActivityList replacement) {
         requireNonNull(replacement);
+        keywordIndex.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        startTimeIndex.clear();
+        startTimeIndex.putAll(replacement.startTimeIndex);
+        rebuildIdAndAppointmentIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code activities}.
      * {@code activities} must not contain duplicate and conflicting activities.
+     * Both are validated by a single sweep over {@code activities} sorted by start time, and every offending
+     * pair is reported in the thrown exception.
      */
     public void setActivities(List<Activity> activities) {
         CollectionUtil.requireAllNonNull(activities);
-        if (!checkActivitiesAreUnique(activities)) {
-            throw new DuplicateActivityFoundException();
+        List<Activity> sortedActivities = new ArrayList<>(activities);
+        sortedActivities.sort(Comparator.comparing(activity -> activity.getStartTime().time));
+
+        List<Map.Entry<Activity, Activity>> duplicatePairs = new ArrayList<>();
+        List<Map.Entry<Activity, Activity>> conflictingPairs = new ArrayList<>();
+        sweep(sortedActivities, duplicatePairs, conflictingPairs);
+
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicateActivityFoundException(duplicatePairs);
         }
 
-        if (!checkActivitiesAreConflicting(activities)) {
-            throw new ConflictingActivityException();
+        if (!conflictingPairs.isEmpty()) {
+            throw new ConflictingActivityException(conflictingPairs);
         }
 
+        keywordIndex.setAll(activities);
         internalList.setAll(activities);
+        startTimeIndex.clear();
+        sortedActivities.forEach(activity -> startTimeIndex.put(activity.getStartTime().time, activity));
+        rebuildIdAndAppointmentIndexes();
     }
 
     /**
-     * Returns true if {@code activities} contains only unique activities.
+     * Similar to {@link #setActivities(List)}, but skips looking for duplicate and conflicting activities.
+     * {@code activities} must already be known to be free of them, e.g. because they were saved from this list.
      */
-    private boolean checkActivitiesAreUnique(List<Activity> activities) {
-        for (int i = 0; i < activities.size() - 1; i++) {
-            for (int j = i + 1; j < activities.size(); j++) {
-                Activity first = activities.get(i);
-                Activity second = activities.get(j);
+    public void setCheckedActivities(List<Activity> activities) {
+        CollectionUtil.requireAllNonNull(activities);
+        keywordIndex.setAll(activities);
+        internalList.setAll(activities);
+        startTimeIndex.clear();
+        activities.forEach(activity -> startTimeIndex.put(activity.getStartTime().time, activity));
+        rebuildIdAndAppointmentIndexes();
+    }
 
-                if (first.equals(second)) {
-                    return false;
-                }
-            }
+    private void rebuildIdAndAppointmentIndexes() {
+        idIndex.clear();
+        appointmentIndex.clear();
+        internalList.forEach(activity -> {
+            idIndex.put(activity.getActivityId(), activity);
+            addToAppointmentIndex(activity);
+        });
+        idAllocator.reset(internalList.stream().mapToInt(activity -> activity.getActivityId().getIdNumber()));
+    }
+
+    private void addToAppointmentIndex(Activity activity) {
+        if (activity.isAppointment()) {
+            appointmentIndex
+                    .computeIfAbsent(activity.getPatientId(), patientId -> new TreeMap<>())
+                    .put(activity.getStartTime().time, activity);
         }
+    }
 
-        return true;
+    private void removeFromAppointmentIndex(Activity activity) {
+        if (!activity.isAppointment()) {
+            return;
+        }
+
+        NavigableMap<LocalDateTime, Activity> appointments = appointmentIndex.get(activity.getPatientId());
+        appointments.remove(activity.getStartTime().time);
+        if (appointments.isEmpty()) {
+            appointmentIndex.remove(activity.getPatientId());
+        }
     }
 
     /**
-     * Returns true if {@code activities} contains only not conflicting activities.
+     * Sweeps through {@code sortedActivities} in the order of their start time, collecting every pair of
+     * activities with the same id into {@code duplicatePairs} and every pair of overlapping activities into
+     * {@code conflictingPairs}. Runs in O(n log n + k) time where k is the number of pairs found.
      */
-    private boolean checkActivitiesAreConflicting(List<Activity> activities) {
-        for (int i = 0; i < activities.size() - 1; i++) {
-            for (int j = i + 1; j < activities.size(); j++) {
-                Activity first = activities.get(i);
-                Activity second = activities.get(j);
+    private static void sweep(List<Activity> sortedActivities,
+                              List<Map.Entry<Activity, Activity>> duplicatePairs,
+                              List<Map.Entry<Activity, Activity>> conflictingPairs) {
+        Map<ActivityId, Activity> seenActivities = new HashMap<>();
+        // activities that have started but not yet ended at the current sweep position, earliest end first
+        PriorityQueue<Activity> ongoingActivities =
+                new PriorityQueue<>(Comparator.comparing(activity -> activity.getEndTime().time));
+
+        for (Activity activity : sortedActivities) {
+            Activity seenActivity = seenActivities.putIfAbsent(activity.getActivityId(), activity);
+            if (seenActivity != null) {
+                duplicatePairs.add(Map.entry(seenActivity, activity));
+            }
 
-                if (first.isConflicting(second)) {
-                    return false;
-                }
+            while (!ongoingActivities.isEmpty()
+                    && !ongoingActivities.peek().getEndTime().isAfter(activity.getStartTime())) {
+                ongoingActivities.poll();
             }
+
+            for (Activity ongoingActivity : ongoingActivities) {
+                conflictingPairs.add(Map.entry(ongoingActivity, activity));
+            }
+
+            ongoingActivities.add(activity);
         }
+    }
 
-        return true;
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, answered from the keyword index of
+     * this list where possible.
+     *
+     * @see KeywordIndex#resolve(Predicate)
+     */
+    public Predicate<Activity> resolve(Predicate<? super Activity> predicate) {
+        return keywordIndex.resolve(predicate);
     }
 
     @Override
@@ -201,28 +375,18 @@ public class UniqueActivityList implements Iterable<Activity> {
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code ObservableList} sorted by id.
+     * The same view is returned on every call.
      */
     public ObservableList<Activity> asUnmodifiableSortedByIdObservableList() {
-        return internalUnmodifiableList
-                .sorted((activity, otherAct) ->
-                        activity.getActivityId() == otherAct.getActivityId()
-                                ? 0
-                                : activity.getActivityId().getIdNumber()
-                                < otherAct.getActivityId().getIdNumber() ? -1 : 1);
+        return internalSortedByIdList;
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
-     * Returned list is sorted by starting the start time.
+     * Returned list is sorted by starting the start time, and the same view is returned on every call.
      */
     public ObservableList<Activity> asUnmodifiableSortedByStartTimeList() {
-        return internalUnmodifiableList
-                .sorted((activity, otherAct) ->
-                        activity.getStartTime() == otherAct.getStartTime()
-                                ? 0
-                                : activity
-                                .getStartTime()
-                                .isBefore(otherAct.getStartTime()) ? -1 : 1);
+        return internalSortedByStartTimeList;
     }
 }
@@ -1,10 +1,30 @@
 package gomedic.model.activity.exceptions;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import gomedic.model.activity.Activity;
+
 /**
  * Signals that the operation results in conflicting activity.
  */
 public class ConflictingActivityException extends RuntimeException {
+    public static final String MESSAGE = "There is partial/full overlap in the activity timing";
+
     public ConflictingActivityException() {
-        super("There is partial/full overlap in the activity timing");
+        super(MESSAGE);
+    }
+
+    /**
+     * Constructs the exception listing every pair of overlapping activities found.
+     *
+     * @param conflictingPairs pairs of activities that overlap with each other.
+     */
+    public ConflictingActivityException(List<Map.Entry<Activity, Activity>> conflictingPairs) {
+        super(MESSAGE + ": " + conflictingPairs
+                .stream()
+                .map(pair -> pair.getKey().getActivityId() + " and " + pair.getValue().getActivityId())
+                .collect(Collectors.joining(", ")));
     }
 }
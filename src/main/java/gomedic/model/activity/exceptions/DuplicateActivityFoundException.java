@@ -1,10 +1,32 @@
 package gomedic.model.activity.exceptions;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import gomedic.model.activity.Activity;
+
 /**
  * Signals that the operation will result in duplicate Activity (They have the same id).
  */
 public class DuplicateActivityFoundException extends RuntimeException {
+    public static final String MESSAGE =
+            "Operation would result in duplicate activity as the existing activity exists already.";
+
     public DuplicateActivityFoundException() {
-        super("Operation would result in duplicate activity as the existing activity exists already.");
+        super(MESSAGE);
+    }
+
+    /**
+     * Constructs the exception listing every pair of activities sharing the same id.
+     *
+     * @param duplicatePairs pairs of activities with the same id.
+     */
+    public DuplicateActivityFoundException(List<Map.Entry<Activity, Activity>> duplicatePairs) {
+        super(MESSAGE + " Duplicated ids: " + duplicatePairs
+                .stream()
+                .map(pair -> pair.getKey().getActivityId() + " (" + pair.getKey().getTitle() + " and "
+                        + pair.getValue().getTitle() + ")")
+                .collect(Collectors.joining(", ")));
     }
 }
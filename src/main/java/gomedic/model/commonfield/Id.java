@@ -5,31 +5,39 @@ import gomedic.commons.util.CollectionUtil;
 
 /**
  * Represents a general id owned by a model.
+ * The number part is zero padded to at least {@link #MINIMUM_DIGITS} digits and grows as needed,
+ * so ids such as "P001" and "P1234567" are both valid.
  * Guarantees: immutable; is valid as declared in {@link #isValidId(Integer, Character)}
  */
 public abstract class Id {
+    public static final int MAXIMUM_ASSIGNABLE_IDS = 9_999_999;
+    public static final int MINIMUM_DIGITS = 3;
+    public static final int MAXIMUM_DIGITS = String.valueOf(MAXIMUM_ASSIGNABLE_IDS).length();
     public static final String MESSAGE_CONSTRAINTS =
-            "Id should only contain from 1 to 999, Prefix should be A-Z (capitalized)";
-    public static final int MAXIMUM_ASSIGNABLE_IDS = 999;
+            "Id should only contain from 1 to " + MAXIMUM_ASSIGNABLE_IDS + ", Prefix should be A-Z (capitalized)";
 
-    private final String value;
+    private final char prefix;
+    private final int number;
+    private final int hash;
+    private String value; // rendered on first use
 
     /**
      * Constructs a {@code Id}.
      *
-     * @param id Integer from 0-999.
+     * @param id Integer from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}.
      * @param prefix Char from A-Z only.
      */
     public Id(Integer id, Character prefix) {
         CollectionUtil.requireAllNonNull(id, prefix);
         AppUtil.checkArgument(isValidId(id, prefix), MESSAGE_CONSTRAINTS);
-        int digit = 3;
-        value = String.format(prefix + "%0" + digit + "d", id);
+        this.prefix = prefix;
+        this.number = id;
+        this.hash = computeHash(prefix, id);
     }
 
     /**
      * Returns true if a given stringId is a valid id.
-     * Valid if integer is 3 digit, from 1 to 999, prefix is A - Z.
+     * Valid if integer is from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}, prefix is A - Z.
      *
      * @param id Integer number.
      * @param prefix Character prefix.
@@ -43,47 +51,70 @@ public abstract class Id {
     }
 
     /**
-     * Returns true id is made of 1 upper case alphabet followed by 3 digits.
+     * Returns true id is made of 1 upper case alphabet followed by 3 to 7 digits.
      *
      * @param id String
      * @return true if valid, else false.
      */
     public static boolean isValidIdFormat(String id) {
-        boolean isValidNumber = isNumeric(id.substring(1)) && id.substring(1).length() == 3;
-        char prefix = id.charAt(0);
-        boolean isValidPrefix = 'A' <= prefix && prefix <= 'Z';
+        int numberLength = id.length() - 1;
+        if (numberLength < MINIMUM_DIGITS || numberLength > MAXIMUM_DIGITS) {
+            return false;
+        }
 
-        return isValidNumber && isValidPrefix;
+        for (int i = 1; i < id.length(); i++) {
+            char digit = id.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return false;
+            }
+        }
+
+        char prefix = id.charAt(0);
+        return 'A' <= prefix && prefix <= 'Z';
     }
 
-    private static boolean isNumeric(String string) {
-        try {
-            Integer.parseInt(string);
-            return true;
-        } catch (Exception e) {
-            return false;
+    /**
+     * Returns the same hash as the {@code String} hash of the formatted id, without formatting it.
+     */
+    private static int computeHash(char prefix, int number) {
+        int divisor = 1;
+        for (int digits = 1; digits < MINIMUM_DIGITS || number / divisor >= 10; digits++) {
+            divisor *= 10;
+        }
+
+        int hash = prefix;
+        for (; divisor > 0; divisor /= 10) {
+            hash = 31 * hash + ('0' + (number / divisor) % 10);
         }
+        return hash;
+    }
+
+    public char getPrefix() {
+        return prefix;
     }
 
     public int getIdNumber() {
-        String numberPart = value.substring(1);
-        return Integer.parseInt(numberPart);
+        return number;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hash;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit
                 || (other instanceof Id // instanceof handles nulls and wrong types
-                && value.equals(((Id) other).value)); // state check
+                && prefix == ((Id) other).prefix // state check
+                && number == ((Id) other).number);
     }
 
     @Override
     public String toString() {
+        if (value == null) {
+            value = String.format(prefix + "%0" + MINIMUM_DIGITS + "d", number);
+        }
         return value;
     }
 }
@@ -0,0 +1,112 @@
+package gomedic.model.commonfield;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import gomedic.commons.util.AppUtil;
+import gomedic.model.commonfield.exceptions.MaxAddressBookCapacityReached;
+
+/**
+ * Keeps track of the id numbers in use by one type of model item, and hands out the lowest id number
+ * that is still free.
+ * The free id numbers are kept as disjoint ranges in a sorted map from the first to the last id number of each
+ * range, so taking and freeing an id number splits or merges ranges in O(log n) time, where n is the number of
+ * ranges, and the lowest free id number is the start of the first range.
+ */
+public class IdAllocator {
+    public static final String MESSAGE_CONSTRAINTS =
+            "Id number should be from 1 to " + Id.MAXIMUM_ASSIGNABLE_IDS;
+
+    private final NavigableMap<Integer, Integer> freeRanges = new TreeMap<>(Map.of(1, Id.MAXIMUM_ASSIGNABLE_IDS));
+
+    /**
+     * Returns true if there is an id number that can still be handed out.
+     */
+    public boolean hasAvailableId() {
+        return !freeRanges.isEmpty();
+    }
+
+    /**
+     * Returns the lowest id number not in use, without taking it.
+     *
+     * @throws MaxAddressBookCapacityReached if every id number is in use.
+     */
+    public int getLowestAvailableId() {
+        if (!hasAvailableId()) {
+            throw new MaxAddressBookCapacityReached();
+        }
+
+        return freeRanges.firstKey();
+    }
+
+    /**
+     * Marks {@code idNumber} as in use.
+     */
+    public void take(int idNumber) {
+        AppUtil.checkArgument(isValidIdNumber(idNumber), MESSAGE_CONSTRAINTS);
+        Map.Entry<Integer, Integer> range = freeRanges.floorEntry(idNumber);
+        if (range == null || range.getValue() < idNumber) {
+            return;
+        }
+
+        freeRanges.remove(range.getKey());
+        if (range.getKey() < idNumber) {
+            freeRanges.put(range.getKey(), idNumber - 1);
+        }
+        if (idNumber < range.getValue()) {
+            freeRanges.put(idNumber + 1, range.getValue());
+        }
+    }
+
+    /**
+     * Marks {@code idNumber} as free so that it can be handed out again.
+     */
+    public void release(int idNumber) {
+        AppUtil.checkArgument(isValidIdNumber(idNumber), MESSAGE_CONSTRAINTS);
+        Map.Entry<Integer, Integer> lowerRange = freeRanges.floorEntry(idNumber);
+        if (lowerRange != null && lowerRange.getValue() >= idNumber) {
+            return;
+        }
+
+        int start = idNumber;
+        int end = idNumber;
+        if (lowerRange != null && lowerRange.getValue() == idNumber - 1) {
+            start = lowerRange.getKey();
+        }
+        Integer higherRangeEnd = freeRanges.remove(idNumber + 1);
+        if (higherRangeEnd != null) {
+            end = higherRangeEnd;
+        }
+        freeRanges.put(start, end);
+    }
+
+    /**
+     * Replaces the id numbers in use with {@code idNumbers}.
+     */
+    public void reset(IntStream idNumbers) {
+        BitSet usedIds = new BitSet();
+        idNumbers.forEach(idNumber -> {
+            AppUtil.checkArgument(isValidIdNumber(idNumber), MESSAGE_CONSTRAINTS);
+            usedIds.set(idNumber);
+        });
+
+        freeRanges.clear();
+        int start = usedIds.nextClearBit(1);
+        while (start <= Id.MAXIMUM_ASSIGNABLE_IDS) {
+            int nextUsedId = usedIds.nextSetBit(start);
+            if (nextUsedId == -1) {
+                freeRanges.put(start, Id.MAXIMUM_ASSIGNABLE_IDS);
+                return;
+            }
+            freeRanges.put(start, nextUsedId - 1);
+            start = usedIds.nextClearBit(nextUsedId);
+        }
+    }
+
+    private static boolean isValidIdNumber(int idNumber) {
+        return idNumber > 0 && idNumber <= Id.MAXIMUM_ASSIGNABLE_IDS;
+    }
+}
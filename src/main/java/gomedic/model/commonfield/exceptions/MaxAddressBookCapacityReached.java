@@ -1,10 +1,16 @@
 package gomedic.model.commonfield.exceptions;
 
+import gomedic.model.commonfield.Id;
+
 /**
  * Signals that the operation is unable to support more items.
  */
 public class MaxAddressBookCapacityReached extends RuntimeException {
+    /**
+     * Constructs the exception stating the maximum number of items of each type.
+     */
     public MaxAddressBookCapacityReached() {
-        super("The addressbook can only contains max of 999 items of each type at one point of time.");
+        super("The addressbook can only contains max of " + Id.MAXIMUM_ASSIGNABLE_IDS
+                + " items of each type at one point of time.");
     }
 }
@@ -2,14 +2,22 @@ package gomedic.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import gomedic.commons.util.CollectionUtil;
 import gomedic.model.commonfield.Id;
-import gomedic.model.commonfield.exceptions.MaxAddressBookCapacityReached;
+import gomedic.model.commonfield.IdAllocator;
 import gomedic.model.person.exceptions.DuplicatePersonException;
 import gomedic.model.person.exceptions.PersonNotFoundException;
+import gomedic.model.util.QueryPlanner;
+import gomedic.model.util.SearchIndex;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -21,6 +29,13 @@ import javafx.collections.ObservableList;
  * person uses AbstractPerson#equals(Object) so as to ensure that the person with exactly the same
  * fields will be removed.
  * <p>
+ * Since two persons are equal exactly when their ids are equal, the persons are also kept in a hash map keyed by
+ * their id. Membership checks and lookups by id therefore run in O(1) time, and replacing the whole list
+ * runs in O(n) time.
+ * <p>
+ * Some fields of the persons can also be kept in {@code SearchIndex}es, so that searches on them do not have to go
+ * through every person.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Person#equals(Object)
@@ -30,7 +45,31 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     private final ObservableList<T> internalList = FXCollections.observableArrayList();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // kept for the lifetime of the list so that it is sorted once and then updated incrementally
+    private final ObservableList<T> internalSortedByIdList =
+            internalUnmodifiableList.sorted(Comparator.comparingInt(person -> person.getId().getIdNumber()));
+    private final Map<Id, T> idIndex = new HashMap<>();
+    private final IdAllocator idAllocator = new IdAllocator();
+    private final List<SearchIndex<T>> searchIndexes;
+    private final QueryPlanner<T> queryPlanner;
+    // increased on every change, so that a resolved predicate can tell whether its matches are still current
+    private long version;
 
+    /**
+     * Creates an empty list that keeps the {@code searchIndexes} up to date with its persons.
+     */
+    public UniquePersonList(List<SearchIndex<T>> searchIndexes) {
+        requireNonNull(searchIndexes);
+        this.searchIndexes = List.copyOf(searchIndexes);
+        queryPlanner = new QueryPlanner<>(searchIndexes);
+    }
+
+    /**
+     * Creates an empty list that does not keep any search index.
+     */
+    public UniquePersonList() {
+        this(List.of());
+    }
 
     /**
      * Checks if there is an available id that can be assigned to a new entry to the list.
@@ -38,38 +77,24 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      * @return true if there is an available id to be assigned.
      */
     public boolean hasNewId() {
-        return internalList.size() < Id.MAXIMUM_ASSIGNABLE_IDS;
+        return idAllocator.hasAvailableId();
     }
 
     /**
-     * Returns a new available id.
+     * Returns the lowest id not used by any person in the list.
      * If it's an empty list, return id 1.
      */
     public int getNewId() {
-        if (!hasNewId()) {
-            // Ideally this exception should never be triggered; Always use this::hasNewId before calling this method
-            throw new MaxAddressBookCapacityReached();
-        }
-
-        if (internalList.size() == 0) {
-            return 1;
-        }
-
-        int counter = 1;
-        // Find first id that does not exist in the list starting from D001
-        for (Iterator<Integer> it = internalList
-                .stream()
-                .map(entry -> entry.getId().getIdNumber())
-                .sorted()
-                .iterator(); it.hasNext(); counter++) {
-            int id = it.next();
-            if (id != counter) {
-                return counter;
-            }
-        }
+        // Ideally this exception should never be triggered; Always use this::hasNewId before calling this method
+        return idAllocator.getLowestAvailableId();
+    }
 
-        // If all are in order, return the next possible id
-        return counter;
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<T> getById(Id id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
@@ -77,7 +102,7 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return idIndex.containsKey(toCheck.getId());
     }
 
     /**
@@ -89,7 +114,11 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        version++;
+        searchIndexes.forEach(searchIndex -> searchIndex.add(toAdd));
         internalList.add(toAdd);
+        idIndex.put(toAdd.getId(), toAdd);
+        idAllocator.take(toAdd.getId().getIdNumber());
     }
 
     /**
@@ -100,8 +129,8 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     public void setPerson(T target, T editedPerson) {
         CollectionUtil.requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        T storedTarget = idIndex.get(target.getId());
+        if (storedTarget == null) {
             throw new PersonNotFoundException();
         }
 
@@ -109,7 +138,17 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        version++;
+        searchIndexes.forEach(searchIndex -> {
+            searchIndex.remove(storedTarget);
+            searchIndex.add(editedPerson);
+        });
+        // finding the position of the person is the only step of the edit that goes through the list
+        internalList.set(internalList.indexOf(storedTarget), editedPerson);
+        idIndex.remove(storedTarget.getId());
+        idIndex.put(editedPerson.getId(), editedPerson);
+        idAllocator.release(storedTarget.getId().getIdNumber());
+        idAllocator.take(editedPerson.getId().getIdNumber());
     }
 
     /**
@@ -118,14 +157,23 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        T storedPerson = idIndex.get(toRemove.getId());
+        if (storedPerson == null) {
             throw new PersonNotFoundException();
         }
+        version++;
+        searchIndexes.forEach(searchIndex -> searchIndex.remove(storedPerson));
+        internalList.remove(storedPerson);
+        idIndex.remove(toRemove.getId());
+        idAllocator.release(toRemove.getId().getIdNumber());
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList<? extends T> replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setAllAndResetIds(replacement.internalList, new HashMap<>(replacement.idIndex));
     }
 
     /**
@@ -134,23 +182,48 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public void setPersons(List<? extends T> persons) {
         CollectionUtil.requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Id, T> replacementIdIndex = new HashMap<>();
+        for (T person : persons) {
+            if (replacementIdIndex.putIfAbsent(person.getId(), person) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        setAllAndResetIds(persons, replacementIdIndex);
+    }
+
+    private void setAllAndResetIds(List<? extends T> persons, Map<Id, T> replacementIdIndex) {
+        version++;
+        searchIndexes.forEach(searchIndex -> searchIndex.setAll(persons));
         internalList.setAll(persons);
+        idIndex.clear();
+        idIndex.putAll(replacementIdIndex);
+        idAllocator.reset(persons.stream().mapToInt(person -> person.getId().getIdNumber()));
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code ObservableList} sorted by id.
+     * The same view is returned on every call.
      */
     public ObservableList<T> asUnmodifiableSortedByIdObservableList() {
-        return internalUnmodifiableList
-            .sorted((abstractPerson, otherAbstractPerson) ->
-                abstractPerson.getId() == otherAbstractPerson.getId()
-                    ? 0
-                    : abstractPerson.getId().getIdNumber()
-                    < otherAbstractPerson.getId().getIdNumber() ? -1 : 1);
+        return internalSortedByIdList;
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, answered from the search indexes of
+     * this list as planned by a {@link QueryPlanner} where possible.
+     * Persons added to the list after this call are tested with {@code predicate} itself.
+     */
+    public Predicate<T> resolve(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        Optional<Set<T>> matches = queryPlanner.getMatches(predicate, internalList);
+        if (matches.isEmpty()) {
+            return predicate::test;
+        }
+
+        Set<T> matchingPersons = matches.get();
+        long resolvedVersion = version;
+        return person -> resolvedVersion == version ? matchingPersons.contains(person) : predicate.test(person);
     }
 
     @Override
@@ -177,18 +250,4 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<? extends T> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).equals(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
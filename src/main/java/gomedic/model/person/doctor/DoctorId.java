@@ -9,13 +9,13 @@ import gomedic.model.commonfield.Id;
  */
 public class DoctorId extends Id {
     public static final String MESSAGE_CONSTRAINTS =
-            "Id should only contain from 1 to 999, Prefix should be D";
+            "Id should only contain from 1 to " + MAXIMUM_ASSIGNABLE_IDS + ", Prefix should be D";
     private static final Character DOCTOR_PREFIX = 'D';
 
     /**
      * {@inheritDoc}
      *
-     * @param id Integer from 1 to 999
+     * @param id Integer from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}
      */
     public DoctorId(Integer id) {
         super(id, DOCTOR_PREFIX);
@@ -25,7 +25,7 @@ public class DoctorId extends Id {
     /**
      * {@inheritDoc}
      *
-     * @param id a string of format "PDDD", where "P" is an alphabetic character and "D" is a decimal number
+     * @param id a string of format "PDDD", where "P" is an alphabetic character followed by 3 to 7 decimal digits
      */
     public DoctorId(String id) {
         super(Integer.parseInt(id.substring(1)), DOCTOR_PREFIX);
@@ -34,22 +34,18 @@ public class DoctorId extends Id {
 
     /**
      * Returns true if a given stringId is a valid doctor id.
-     * Valid if integer is 3 digit, from 1 to 999, prefix is D.
+     * Valid if integer is from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}, prefix is D.
      *
      * @param id Id.
      * @return true if valid.
      */
     public static boolean isValidDoctorId(Id id) {
-        int number = Integer.parseInt(id.toString().substring(1));
-        Character prefix = id.toString().charAt(0);
-        boolean isValidPrefix = prefix.equals(DOCTOR_PREFIX);
-
-        return isValidId(number, prefix) && isValidPrefix;
+        return isValidId(id.getIdNumber(), id.getPrefix()) && id.getPrefix() == DOCTOR_PREFIX;
     }
 
     /**
      * Returns true if a given stringId is a valid activity valid id.
-     * Valid if integer is 3 digit, from 1 to 999, prefix is D.
+     * Valid if integer is from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}, prefix is D.
      *
      * @param did String.
      * @return true if valid, else false.
@@ -9,13 +9,13 @@ import gomedic.model.commonfield.Id;
  */
 public class PatientId extends Id {
     public static final String MESSAGE_CONSTRAINTS =
-            "Id should only contain from 1 to 999, Prefix should be P";
+            "Id should only contain from 1 to " + MAXIMUM_ASSIGNABLE_IDS + ", Prefix should be P";
     private static final Character PATIENT_PREFIX = 'P';
 
     /**
      * {@inheritDoc}
      *
-     * @param id Integer from 1 to 999.
+     * @param id Integer from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}.
      */
     public PatientId(Integer id) {
         super(id, PATIENT_PREFIX);
@@ -25,7 +25,7 @@ public class PatientId extends Id {
     /**
      * {@inheritDoc}
      *
-     * @param id a string of format "PDDD", where "P" is an alphabetic character and "D" is a decimal number.
+     * @param id a string of format "PDDD", where "P" is an alphabetic character followed by 3 to 7 decimal digits.
      */
     public PatientId(String id) {
         super(Integer.parseInt(id.substring(1)), PATIENT_PREFIX);
@@ -34,22 +34,18 @@ public class PatientId extends Id {
 
     /**
      * Returns true if a given stringId is a valid patient id.
-     * Valid if integer is 3 digit, from 1 to 999, prefix is P.
+     * Valid if integer is from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}, prefix is P.
      *
      * @param id Id.
      * @return true if valid.
      */
     public static boolean isValidPatientId(Id id) {
-        int number = Integer.parseInt(id.toString().substring(1));
-        Character prefix = id.toString().charAt(0);
-        boolean isValidPrefix = prefix.equals(PATIENT_PREFIX);
-
-        return isValidId(number, prefix) && isValidPrefix;
+        return isValidId(id.getIdNumber(), id.getPrefix()) && id.getPrefix() == PATIENT_PREFIX;
     }
 
     /**
      * Returns true if a given stringId is a valid activity valid id.
-     * Valid if integer is 3 digit, from 1 to 999, prefix is P.
+     * Valid if integer is from 1 to {@value #MAXIMUM_ASSIGNABLE_IDS}, prefix is P.
      *
      * @param id String.
      * @return true if valid, else false.
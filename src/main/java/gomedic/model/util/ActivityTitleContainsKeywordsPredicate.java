@@ -1,7 +1,6 @@
 package gomedic.model.util;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import gomedic.commons.util.StringUtil;
 import gomedic.model.activity.Activity;
@@ -9,13 +8,21 @@ import gomedic.model.activity.Activity;
 /**
  * Tests that an Activity's title or description matches any of the keywords given.
  */
-public class ActivityTitleContainsKeywordsPredicate<T extends Activity> implements Predicate<T> {
+public class ActivityTitleContainsKeywordsPredicate<T extends Activity> implements IndexedKeywordsPredicate<T> {
     private final List<String> keywords;
 
     public ActivityTitleContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the title and the description of {@code activity}, which are searched for the keywords.
+     * The words of the result are exactly the words of the title followed by the words of the description.
+     */
+    public static String getSearchedText(Activity activity) {
+        return activity.getTitle().toString() + " " + activity.getDescription().toString();
+    }
+
     @Override
     public boolean test(T activity) {
         return keywords.stream()
@@ -23,6 +30,16 @@ public class ActivityTitleContainsKeywordsPredicate<T extends Activity> implemen
                         || StringUtil.containsWordIgnoreCase(activity.getDescription().toString(), keyword));
     }
 
+    @Override
+    public KeywordIndex.Field getIndexedField() {
+        return KeywordIndex.Field.TITLE_OR_DESCRIPTION;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,43 @@
+package gomedic.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that an item matches any of the predicates given.
+ * Unlike {@link Predicate#or(Predicate)}, the predicates stay visible so that an index can answer them together.
+ */
+public class AnyOfPredicate<T> implements Predicate<T> {
+    private final List<Predicate<? super T>> predicates;
+
+    /**
+     * Creates a predicate that matches the items matching any of the {@code predicates}.
+     */
+    public AnyOfPredicate(List<? extends Predicate<? super T>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = List.copyOf(predicates);
+    }
+
+    @Override
+    public boolean test(T item) {
+        return predicates.stream().anyMatch(predicate -> predicate.test(item));
+    }
+
+    public List<Predicate<? super T>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AnyOfPredicate // instanceof handles nulls
+                && predicates.equals(((AnyOfPredicate<?>) other).predicates)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+}
@@ -0,0 +1,223 @@
+package gomedic.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import gomedic.commons.util.StringUtil;
+
+/**
+ * An index of fields with few distinct words, such as blood types, genders and medical conditions, keeping a bitmap
+ * of the items having each word.
+ * <p>
+ * Every item is given a slot, and the bitmap of a word has the bits of the slots of the items with that word set.
+ * Keywords are matched in the same way as {@link StringUtil#containsWordIgnoreCase(String, String)}, by taking the
+ * union of the bitmaps of the words containing them. Predicates on several indexed fields combined with
+ * {@link AllOfPredicate} and {@link AnyOfPredicate} are answered by combining their bitmaps with bitwise AND and OR,
+ * without testing any item.
+ * <p>
+ * The slots of removed items are given to the next items added, so the bitmaps stay as long as the largest number
+ * of items ever kept at once.
+ */
+public class BitmapIndex<T> implements SearchIndex<T> {
+
+    private final Map<KeywordIndex.Field, Function<? super T, String>> fieldReaders =
+            new EnumMap<>(KeywordIndex.Field.class);
+    private final Map<KeywordIndex.Field, Map<String, BitSet>> bitmaps = new EnumMap<>(KeywordIndex.Field.class);
+    private final Map<T, Integer> slots = new IdentityHashMap<>();
+    private final List<T> itemsBySlot = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+    // increased on every change, so that a resolved predicate can tell whether its matches are still current
+    private long version;
+
+    /**
+     * Creates an index of the fields read from each item by {@code fieldReaders}.
+     */
+    public BitmapIndex(Map<KeywordIndex.Field, Function<? super T, String>> fieldReaders) {
+        requireNonNull(fieldReaders);
+        this.fieldReaders.putAll(fieldReaders);
+        fieldReaders.keySet().forEach(field -> bitmaps.put(field, new HashMap<>()));
+    }
+
+    /**
+     * Returns true if {@code field} is kept in this index.
+     */
+    public boolean covers(KeywordIndex.Field field) {
+        return bitmaps.containsKey(field);
+    }
+
+    @Override
+    public void add(T item) {
+        requireNonNull(item);
+        version++;
+        int slot = freeSlots.isEmpty() ? itemsBySlot.size() : freeSlots.nextSetBit(0);
+        if (slot == itemsBySlot.size()) {
+            itemsBySlot.add(item);
+        } else {
+            itemsBySlot.set(slot, item);
+            freeSlots.clear(slot);
+        }
+        slots.put(item, slot);
+
+        fieldReaders.forEach((field, reader) -> {
+            for (String word : StringUtil.splitWordsIgnoreCase(reader.apply(item))) {
+                bitmaps.get(field).computeIfAbsent(word, unused -> new BitSet()).set(slot);
+            }
+        });
+    }
+
+    @Override
+    public void remove(T item) {
+        requireNonNull(item);
+        Integer slot = slots.remove(item);
+        if (slot == null) {
+            return;
+        }
+
+        version++;
+        itemsBySlot.set(slot, null);
+        freeSlots.set(slot);
+        fieldReaders.forEach((field, reader) -> {
+            Map<String, BitSet> fieldBitmaps = bitmaps.get(field);
+            for (String word : StringUtil.splitWordsIgnoreCase(reader.apply(item))) {
+                // a word repeated in the text of the item has already been cleared on its first occurrence
+                BitSet bitmap = fieldBitmaps.get(word);
+                if (bitmap == null) {
+                    continue;
+                }
+                bitmap.clear(slot);
+                if (bitmap.isEmpty()) {
+                    fieldBitmaps.remove(word);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void setAll(Collection<? extends T> items) {
+        requireNonNull(items);
+        bitmaps.values().forEach(Map::clear);
+        slots.clear();
+        itemsBySlot.clear();
+        freeSlots.clear();
+        items.forEach(this::add);
+        version++;
+    }
+
+    /**
+     * Returns the bitmap of the slots of the items matching {@code predicate}.
+     *
+     * @throws IllegalArgumentException if {@code predicate} cannot be answered from this index.
+     */
+    public BitSet getMatchingSlots(Predicate<?> predicate) {
+        if (!canResolve(predicate)) {
+            throw new IllegalArgumentException(predicate + " cannot be answered from this index");
+        }
+        return computeMatchingSlots(predicate);
+    }
+
+    /**
+     * Returns the number of items matching {@code predicate}.
+     *
+     * @throws IllegalArgumentException if {@code predicate} cannot be answered from this index.
+     */
+    public int countMatches(Predicate<?> predicate) {
+        return getMatchingSlots(predicate).cardinality();
+    }
+
+    @Override
+    public Set<T> getMatches(Predicate<?> predicate) {
+        BitSet matchingSlots = getMatchingSlots(predicate);
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingSlots.stream().forEach(slot -> matches.add(itemsBySlot.get(slot)));
+        return matches;
+    }
+
+    /**
+     * Returns the number of items matching {@code predicate}, counted from its bitmap.
+     */
+    @Override
+    public int estimateMatches(Predicate<?> predicate) {
+        return countMatches(predicate);
+    }
+
+    /**
+     * Returns true if {@code predicate} looks for keywords in a field kept in this index, or combines such
+     * predicates with {@link AllOfPredicate} or {@link AnyOfPredicate}.
+     */
+    @Override
+    public boolean canResolve(Predicate<?> predicate) {
+        if (predicate instanceof AllOfPredicate) {
+            return ((AllOfPredicate<?>) predicate).getPredicates().stream().allMatch(this::canResolve);
+        }
+
+        if (predicate instanceof AnyOfPredicate) {
+            return ((AnyOfPredicate<?>) predicate).getPredicates().stream().allMatch(this::canResolve);
+        }
+
+        return predicate instanceof IndexedKeywordsPredicate
+                && covers(((IndexedKeywordsPredicate<?>) predicate).getIndexedField());
+    }
+
+    @Override
+    public Predicate<T> resolve(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        if (!canResolve(predicate)) {
+            return predicate::test;
+        }
+
+        BitSet matchingSlots = computeMatchingSlots(predicate);
+        long resolvedVersion = version;
+        return item -> {
+            if (resolvedVersion != version) {
+                return predicate.test(item);
+            }
+            Integer slot = slots.get(item);
+            return slot != null && matchingSlots.get(slot);
+        };
+    }
+
+    private BitSet computeMatchingSlots(Predicate<?> predicate) {
+        if (predicate instanceof AllOfPredicate) {
+            BitSet matchingSlots = new BitSet();
+            matchingSlots.set(0, itemsBySlot.size());
+            matchingSlots.andNot(freeSlots);
+            for (Predicate<?> subPredicate : ((AllOfPredicate<?>) predicate).getPredicates()) {
+                matchingSlots.and(computeMatchingSlots(subPredicate));
+            }
+            return matchingSlots;
+        }
+
+        if (predicate instanceof AnyOfPredicate) {
+            BitSet matchingSlots = new BitSet();
+            for (Predicate<?> subPredicate : ((AnyOfPredicate<?>) predicate).getPredicates()) {
+                matchingSlots.or(computeMatchingSlots(subPredicate));
+            }
+            return matchingSlots;
+        }
+
+        IndexedKeywordsPredicate<?> keywordsPredicate = (IndexedKeywordsPredicate<?>) predicate;
+        Map<String, BitSet> fieldBitmaps = bitmaps.get(keywordsPredicate.getIndexedField());
+        BitSet matchingSlots = new BitSet();
+        for (String keyword : keywordsPredicate.getKeywords()) {
+            String preppedKeyword = StringUtil.prepareWordIgnoreCase(keyword);
+            fieldBitmaps.forEach((word, bitmap) -> {
+                if (word.contains(preppedKeyword)) {
+                    matchingSlots.or(bitmap);
+                }
+            });
+        }
+        return matchingSlots;
+    }
+}
@@ -1,7 +1,6 @@
 package gomedic.model.util;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import gomedic.commons.util.StringUtil;
 import gomedic.model.person.doctor.Doctor;
@@ -9,17 +8,34 @@ import gomedic.model.person.doctor.Doctor;
 /**
  * Tests that a Doctor's department matches any of the keywords given.
  */
-public class DepartmentContainsKeywordsPredicate<T extends Doctor> implements Predicate<T> {
+public class DepartmentContainsKeywordsPredicate<T extends Doctor> implements IndexedKeywordsPredicate<T> {
     private final List<String> keywords;
 
     public DepartmentContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the text of the field of {@code person} that is searched for the keywords.
+     */
+    public static String getSearchedText(Doctor person) {
+        return person.getDepartment().toString();
+    }
+
     @Override
     public boolean test(T person) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getDepartment().toString(), keyword));
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(getSearchedText(person), keyword));
+    }
+
+    @Override
+    public KeywordIndex.Field getIndexedField() {
+        return KeywordIndex.Field.DEPARTMENT;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
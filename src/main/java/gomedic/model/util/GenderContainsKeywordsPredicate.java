@@ -1,7 +1,6 @@
 package gomedic.model.util;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import gomedic.commons.util.StringUtil;
 import gomedic.model.person.patient.Patient;
@@ -9,17 +8,34 @@ import gomedic.model.person.patient.Patient;
 /**
  * Tests that a Patient's gender matches any of the keywords given.
  */
-public class GenderContainsKeywordsPredicate<T extends Patient> implements Predicate<T> {
+public class GenderContainsKeywordsPredicate<T extends Patient> implements IndexedKeywordsPredicate<T> {
     private final List<String> keywords;
 
     public GenderContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the text of the field of {@code person} that is searched for the keywords.
+     */
+    public static String getSearchedText(Patient person) {
+        return person.getGender().toString();
+    }
+
     @Override
     public boolean test(T person) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getGender().toString(), keyword));
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(getSearchedText(person), keyword));
+    }
+
+    @Override
+    public KeywordIndex.Field getIndexedField() {
+        return KeywordIndex.Field.GENDER;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
@@ -0,0 +1,15 @@
+package gomedic.model.util;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A predicate that tests whether a field kept in a {@link KeywordIndex} matches any of the keywords given,
+ * so that it can be answered from the index instead of testing every item.
+ */
+public interface IndexedKeywordsPredicate<T> extends Predicate<T> {
+
+    KeywordIndex.Field getIndexedField();
+
+    List<String> getKeywords();
+}
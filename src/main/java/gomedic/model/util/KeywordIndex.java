@@ -0,0 +1,192 @@
+package gomedic.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import gomedic.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words in some fields of the items in a list to the items containing them.
+ * <p>
+ * The index is kept up to date by the list as items are added and removed, so that a search for keywords only
+ * has to look up the words of a field containing the keywords instead of splitting the field of every item again.
+ * Words are split and matched in exactly the same way as {@link StringUtil#containsWordIgnoreCase(String, String)}:
+ * an item matches a keyword if any word of its field contains the keyword, ignoring case. The words containing a
+ * keyword are found with a {@link TrigramIndex} of the distinct words of each field.
+ */
+public class KeywordIndex<T> implements SearchIndex<T> {
+
+    /**
+     * A field of a patient, doctor or activity that can be searched for keywords from an index.
+     */
+    public enum Field {
+        NAME,
+        PHONE,
+        DEPARTMENT,
+        MEDICAL_CONDITION,
+        BLOOD_TYPE,
+        GENDER,
+        TITLE_OR_DESCRIPTION
+    }
+
+    private final Map<Field, Function<? super T, String>> fieldReaders = new EnumMap<>(Field.class);
+    private final Map<Field, Map<String, Set<T>>> postingLists = new EnumMap<>(Field.class);
+    private final Map<Field, TrigramIndex> wordIndexes = new EnumMap<>(Field.class);
+    // increased on every change, so that a resolved predicate can tell whether its matches are still current
+    private long version;
+
+    /**
+     * Creates an index of the fields read from each item by {@code fieldReaders}.
+     */
+    public KeywordIndex(Map<Field, Function<? super T, String>> fieldReaders) {
+        requireNonNull(fieldReaders);
+        this.fieldReaders.putAll(fieldReaders);
+        fieldReaders.keySet().forEach(field -> {
+            postingLists.put(field, new HashMap<>());
+            wordIndexes.put(field, new TrigramIndex());
+        });
+    }
+
+    /**
+     * Creates an index that does not cover any field.
+     */
+    public KeywordIndex() {
+        this(Map.of());
+    }
+
+    /**
+     * Returns true if {@code field} is kept in this index.
+     */
+    public boolean covers(Field field) {
+        return postingLists.containsKey(field);
+    }
+
+    @Override
+    public void add(T item) {
+        requireNonNull(item);
+        version++;
+        fieldReaders.forEach((field, reader) -> {
+            Map<String, Set<T>> fieldPostingLists = postingLists.get(field);
+            for (String word : StringUtil.splitWordsIgnoreCase(reader.apply(item))) {
+                fieldPostingLists.computeIfAbsent(word, unused -> {
+                    wordIndexes.get(field).add(word);
+                    return newIdentitySet();
+                }).add(item);
+            }
+        });
+    }
+
+    @Override
+    public void remove(T item) {
+        requireNonNull(item);
+        version++;
+        fieldReaders.forEach((field, reader) -> {
+            Map<String, Set<T>> fieldPostingLists = postingLists.get(field);
+            for (String word : StringUtil.splitWordsIgnoreCase(reader.apply(item))) {
+                Set<T> items = fieldPostingLists.get(word);
+                if (items != null && items.remove(item) && items.isEmpty()) {
+                    fieldPostingLists.remove(word);
+                    wordIndexes.get(field).remove(word);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void setAll(Collection<? extends T> items) {
+        requireNonNull(items);
+        postingLists.values().forEach(Map::clear);
+        wordIndexes.values().forEach(TrigramIndex::clear);
+        items.forEach(this::add);
+        version++;
+    }
+
+    /**
+     * Returns true if {@code predicate} looks for keywords in a field kept in this index.
+     */
+    @Override
+    public boolean canResolve(Predicate<?> predicate) {
+        return predicate instanceof IndexedKeywordsPredicate
+                && covers(((IndexedKeywordsPredicate<?>) predicate).getIndexedField());
+    }
+
+    /**
+     * Returns the items whose {@code field} contains any of the {@code keywords}.
+     * Only the words of the field that share the rarest trigram of a keyword are compared with it.
+     *
+     * @throws IllegalArgumentException if {@code field} is not kept in this index, or any keyword is empty or
+     *     is not a single word.
+     */
+    public Set<T> getMatches(Field field, List<String> keywords) {
+        requireNonNull(keywords);
+        if (!covers(field)) {
+            throw new IllegalArgumentException(field + " is not kept in this index");
+        }
+
+        Set<T> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            String preppedKeyword = StringUtil.prepareWordIgnoreCase(keyword);
+            for (String word : wordIndexes.get(field).getWordsContaining(preppedKeyword)) {
+                matches.addAll(postingLists.get(field).get(word));
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public Set<T> getMatches(Predicate<?> predicate) {
+        IndexedKeywordsPredicate<?> keywordsPredicate = toKeywordsPredicate(predicate);
+        return getMatches(keywordsPredicate.getIndexedField(), keywordsPredicate.getKeywords());
+    }
+
+    /**
+     * Returns the total number of items having each word of the field that contains a keyword,
+     * which counts an item once for every such word it has.
+     */
+    @Override
+    public int estimateMatches(Predicate<?> predicate) {
+        IndexedKeywordsPredicate<?> keywordsPredicate = toKeywordsPredicate(predicate);
+        Field field = keywordsPredicate.getIndexedField();
+        int estimate = 0;
+        for (String keyword : keywordsPredicate.getKeywords()) {
+            String preppedKeyword = StringUtil.prepareWordIgnoreCase(keyword);
+            for (String word : wordIndexes.get(field).getWordsContaining(preppedKeyword)) {
+                estimate += postingLists.get(field).get(word).size();
+            }
+        }
+        return estimate;
+    }
+
+    @Override
+    public Predicate<T> resolve(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        if (!canResolve(predicate)) {
+            return predicate::test;
+        }
+
+        Set<T> matches = getMatches(predicate);
+        long resolvedVersion = version;
+        return item -> resolvedVersion == version ? matches.contains(item) : predicate.test(item);
+    }
+
+    private IndexedKeywordsPredicate<?> toKeywordsPredicate(Predicate<?> predicate) {
+        if (!canResolve(predicate)) {
+            throw new IllegalArgumentException(predicate + " cannot be answered from this index");
+        }
+        return (IndexedKeywordsPredicate<?>) predicate;
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -1,7 +1,6 @@
 package gomedic.model.util;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import gomedic.commons.util.StringUtil;
 import gomedic.model.person.patient.Patient;
@@ -9,18 +8,34 @@ import gomedic.model.person.patient.Patient;
 /**
  * Tests that a Patient's medical condition matches any of the keywords given.
  */
-public class MedicalConditionContainsKeywordsPredicate<T extends Patient> implements Predicate<T> {
+public class MedicalConditionContainsKeywordsPredicate<T extends Patient> implements IndexedKeywordsPredicate<T> {
     private final List<String> keywords;
 
     public MedicalConditionContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the text of the field of {@code person} that is searched for the keywords.
+     */
+    public static String getSearchedText(Patient person) {
+        return person.getMedicalConditions().toString();
+    }
+
     @Override
     public boolean test(T person) {
         return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(person.getMedicalConditions().toString(), keyword));
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(getSearchedText(person), keyword));
+    }
+
+    @Override
+    public KeywordIndex.Field getIndexedField() {
+        return KeywordIndex.Field.MEDICAL_CONDITION;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
@@ -1,7 +1,6 @@
 package gomedic.model.util;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import gomedic.commons.util.StringUtil;
 import gomedic.model.person.Person;
@@ -9,18 +8,34 @@ import gomedic.model.person.Person;
 /**
  * Tests that a Patient's or Doctor's name matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate<T extends Person> implements Predicate<T> {
+public class NameContainsKeywordsPredicate<T extends Person> implements IndexedKeywordsPredicate<T> {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the text of the field of {@code person} that is searched for the keywords.
+     */
+    public static String getSearchedText(Person person) {
+        return person.getName().fullName;
+    }
 
     @Override
     public boolean test(T person) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(getSearchedText(person), keyword));
+    }
+
+    @Override
+    public KeywordIndex.Field getIndexedField() {
+        return KeywordIndex.Field.NAME;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
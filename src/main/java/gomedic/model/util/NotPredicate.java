@@ -0,0 +1,42 @@
+package gomedic.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Tests that an item does not match the predicate given.
+ * Unlike {@link Predicate#negate()}, the predicate stays visible so that an index can answer it.
+ */
+public class NotPredicate<T> implements Predicate<T> {
+    private final Predicate<? super T> predicate;
+
+    /**
+     * Creates a predicate that matches the items not matching {@code predicate}.
+     */
+    public NotPredicate(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(T item) {
+        return !predicate.test(item);
+    }
+
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotPredicate // instanceof handles nulls
+                && predicate.equals(((NotPredicate<?>) other).predicate)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+}
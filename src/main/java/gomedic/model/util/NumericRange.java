@@ -0,0 +1,106 @@
+package gomedic.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import gomedic.commons.util.AppUtil;
+
+/**
+ * Represents a range of whole numbers, both ends inclusive, searched for in a numeric field of a patient.
+ * Guarantees: immutable; is valid as declared in {@link #isValidNumericRange(String)}
+ */
+public class NumericRange {
+    public static final String MESSAGE_CONSTRAINTS = "Ranges should be written as MIN-MAX, >NUMBER, >=NUMBER, "
+            + "<NUMBER, <=NUMBER or NUMBER, where MIN is not larger than MAX, e.g. 60-80 or >170";
+
+    private static final Pattern BETWEEN_FORMAT = Pattern.compile("(?<min>\\d{1,9})-(?<max>\\d{1,9})");
+    private static final Pattern COMPARISON_FORMAT = Pattern.compile("(?<operator>[<>]=?)?(?<number>\\d{1,9})");
+
+    public final int min;
+    public final int max;
+
+    /**
+     * Constructs a {@code NumericRange}.
+     *
+     * @param range A valid range.
+     */
+    public NumericRange(String range) {
+        requireNonNull(range);
+        AppUtil.checkArgument(isValidNumericRange(range), MESSAGE_CONSTRAINTS);
+
+        Matcher betweenMatcher = BETWEEN_FORMAT.matcher(range);
+        if (betweenMatcher.matches()) {
+            min = Integer.parseInt(betweenMatcher.group("min"));
+            max = Integer.parseInt(betweenMatcher.group("max"));
+            return;
+        }
+
+        Matcher comparisonMatcher = COMPARISON_FORMAT.matcher(range);
+        comparisonMatcher.matches();
+        int number = Integer.parseInt(comparisonMatcher.group("number"));
+        String operator = comparisonMatcher.group("operator");
+        if (operator == null) {
+            min = number;
+            max = number;
+        } else if (operator.equals(">")) {
+            min = number + 1;
+            max = Integer.MAX_VALUE;
+        } else if (operator.equals(">=")) {
+            min = number;
+            max = Integer.MAX_VALUE;
+        } else if (operator.equals("<")) {
+            min = Integer.MIN_VALUE;
+            max = number - 1;
+        } else {
+            min = Integer.MIN_VALUE;
+            max = number;
+        }
+    }
+
+    /**
+     * Returns true if a given string is a valid range.
+     */
+    public static boolean isValidNumericRange(String test) {
+        Matcher betweenMatcher = BETWEEN_FORMAT.matcher(test);
+        if (betweenMatcher.matches()) {
+            return Integer.parseInt(betweenMatcher.group("min")) <= Integer.parseInt(betweenMatcher.group("max"));
+        }
+
+        return COMPARISON_FORMAT.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code keyword} is written as a range rather than a plain keyword,
+     * i.e. it has a '-', '<' or '>' in it.
+     */
+    public static boolean isRangeKeyword(String keyword) {
+        return keyword.contains("-") || keyword.contains("<") || keyword.contains(">");
+    }
+
+    /**
+     * Returns true if {@code value} lies in this range.
+     */
+    public boolean contains(int value) {
+        return min <= value && value <= max;
+    }
+
+    @Override
+    public String toString() {
+        return min + "-" + max;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NumericRange // instanceof handles nulls
+                && min == ((NumericRange) other).min
+                && max == ((NumericRange) other).max); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * min + max;
+    }
+}
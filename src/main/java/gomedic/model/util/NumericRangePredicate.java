@@ -0,0 +1,78 @@
+package gomedic.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import gomedic.model.person.patient.Patient;
+
+/**
+ * Tests that a Patient's Age, Height or Weight lies in any of the ranges given.
+ */
+public class NumericRangePredicate<T extends Patient> implements Predicate<T> {
+    private final RangeIndex.Field field;
+    private final List<NumericRange> ranges;
+
+    /**
+     * Creates a predicate that tests the {@code field} of a patient against the {@code ranges}.
+     */
+    public NumericRangePredicate(RangeIndex.Field field, List<NumericRange> ranges) {
+        requireNonNull(field);
+        requireNonNull(ranges);
+        this.field = field;
+        this.ranges = ranges;
+    }
+
+    /**
+     * Returns the value of {@code field} of {@code patient} that is compared with the ranges.
+     */
+    public static int getSearchedValue(RangeIndex.Field field, Patient patient) {
+        switch (field) {
+        case AGE:
+            return Integer.parseInt(patient.getAge().age);
+        case HEIGHT:
+            return Integer.parseInt(patient.getHeight().height);
+        case WEIGHT:
+            return Integer.parseInt(patient.getWeight().weight);
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+
+    @Override
+    public boolean test(T person) {
+        int value = getSearchedValue(field, person);
+        return ranges.stream().anyMatch(range -> range.contains(value));
+    }
+
+    public RangeIndex.Field getField() {
+        return field;
+    }
+
+    public List<NumericRange> getRanges() {
+        return ranges;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof NumericRangePredicate) {
+            @SuppressWarnings("unchecked")
+            NumericRangePredicate<T> otherRanges = (NumericRangePredicate<T>) other;
+
+            return field == otherRanges.field && ranges.equals(otherRanges.ranges);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, ranges);
+    }
+}
@@ -1,7 +1,6 @@
 package gomedic.model.util;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import gomedic.commons.util.StringUtil;
 import gomedic.model.person.Person;
@@ -9,17 +8,34 @@ import gomedic.model.person.Person;
 /**
  * Tests that a Patient's or Doctor's phone number matches any of the keywords given.
  */
-public class PhoneNumberContainsKeywordsPredicate<T extends Person> implements Predicate<T> {
+public class PhoneNumberContainsKeywordsPredicate<T extends Person> implements IndexedKeywordsPredicate<T> {
     private final List<String> keywords;
 
     public PhoneNumberContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the text of the field of {@code person} that is searched for the keywords.
+     */
+    public static String getSearchedText(Person person) {
+        return person.getPhone().toString();
+    }
+
     @Override
     public boolean test(T person) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().toString(), keyword));
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(getSearchedText(person), keyword));
+    }
+
+    @Override
+    public KeywordIndex.Field getIndexedField() {
+        return KeywordIndex.Field.PHONE;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
@@ -0,0 +1,191 @@
+package gomedic.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Finds the items of a list matching a predicate from the search indexes of the list, instead of testing every item.
+ * <p>
+ * A predicate built from {@link AllOfPredicate}, {@link AnyOfPredicate} and {@link NotPredicate} is planned from
+ * the top down. A predicate that a single index can answer whole is looked up in it. The children of an
+ * {@code AllOfPredicate} are looked up in increasing order of their estimated number of matches, so the most
+ * selective index is used first. Each following child is then intersected with the matches so far, or tested on
+ * them directly once there are fewer of them than the child is estimated to match. Children that no index can answer
+ * are only tested on the matches of the others. The matches of the children of an {@code AnyOfPredicate} are
+ * united, and a {@code NotPredicate} matches the items of the list not matched by its predicate.
+ */
+public class QueryPlanner<T> {
+    private final List<SearchIndex<T>> searchIndexes;
+
+    /**
+     * Creates a planner looking up the {@code searchIndexes}.
+     */
+    public QueryPlanner(List<SearchIndex<T>> searchIndexes) {
+        requireNonNull(searchIndexes);
+        this.searchIndexes = List.copyOf(searchIndexes);
+    }
+
+    /**
+     * Returns the items of {@code items}, which have to be the items kept in the search indexes, that match
+     * {@code predicate}, or an empty {@code Optional} if every item would have to be tested to find them.
+     */
+    public Optional<Set<T>> getMatches(Predicate<? super T> predicate, Collection<? extends T> items) {
+        requireNonNull(predicate);
+        requireNonNull(items);
+        return findMatches(predicate, items);
+    }
+
+    private Optional<Set<T>> findMatches(Predicate<? super T> predicate, Collection<? extends T> items) {
+        Optional<SearchIndex<T>> searchIndex = findSearchIndex(predicate);
+        if (searchIndex.isPresent()) {
+            return Optional.of(searchIndex.get().getMatches(predicate));
+        }
+
+        if (predicate instanceof AllOfPredicate) {
+            return findAllOfMatches(getChildren(predicate), items);
+        }
+
+        if (predicate instanceof AnyOfPredicate) {
+            Set<T> matches = newIdentitySet();
+            for (Predicate<? super T> child : getChildren(predicate)) {
+                Optional<Set<T>> childMatches = findMatches(child, items);
+                if (childMatches.isEmpty()) {
+                    return Optional.empty();
+                }
+                matches.addAll(childMatches.get());
+            }
+            return Optional.of(matches);
+        }
+
+        if (predicate instanceof NotPredicate) {
+            return findMatches(getNegatedPredicate(predicate), items).map(excludedItems -> {
+                Set<T> matches = newIdentitySet();
+                items.stream().filter(item -> !excludedItems.contains(item)).forEach(matches::add);
+                return matches;
+            });
+        }
+
+        return Optional.empty();
+    }
+
+    private Optional<Set<T>> findAllOfMatches(List<Predicate<? super T>> children, Collection<? extends T> items) {
+        // each child is estimated once, as an estimate may have to look into the indexes of all of its children
+        Map<Predicate<? super T>, Integer> estimates = new IdentityHashMap<>();
+        List<Predicate<? super T>> indexedChildren = new ArrayList<>();
+        List<Predicate<? super T>> otherChildren = new ArrayList<>();
+        for (Predicate<? super T> child : children) {
+            OptionalInt estimate = estimateMatches(child, items.size());
+            if (estimate.isPresent()) {
+                estimates.put(child, estimate.getAsInt());
+                indexedChildren.add(child);
+            } else {
+                otherChildren.add(child);
+            }
+        }
+
+        if (indexedChildren.isEmpty()) {
+            return Optional.empty();
+        }
+
+        indexedChildren.sort(Comparator.comparing(estimates::get));
+        Set<T> matches = findMatches(indexedChildren.get(0), items).orElseThrow();
+        for (Predicate<? super T> child : indexedChildren.subList(1, indexedChildren.size())) {
+            if (matches.isEmpty()) {
+                break;
+            }
+
+            if (matches.size() < estimates.get(child)) {
+                matches.removeIf(item -> !child.test(item));
+            } else {
+                matches = intersect(matches, findMatches(child, items).orElseThrow());
+            }
+        }
+
+        for (Predicate<? super T> child : otherChildren) {
+            matches.removeIf(item -> !child.test(item));
+        }
+        return Optional.of(matches);
+    }
+
+    /**
+     * Returns an upper bound of the number of items matching {@code predicate}, or an empty {@code OptionalInt}
+     * if it cannot be answered from the indexes.
+     */
+    private OptionalInt estimateMatches(Predicate<? super T> predicate, int itemCount) {
+        Optional<SearchIndex<T>> searchIndex = findSearchIndex(predicate);
+        if (searchIndex.isPresent()) {
+            return OptionalInt.of(searchIndex.get().estimateMatches(predicate));
+        }
+
+        if (predicate instanceof AllOfPredicate) {
+            return getChildren(predicate).stream()
+                    .map(child -> estimateMatches(child, itemCount))
+                    .filter(OptionalInt::isPresent)
+                    .mapToInt(OptionalInt::getAsInt)
+                    .min();
+        }
+
+        if (predicate instanceof AnyOfPredicate) {
+            int estimate = 0;
+            for (Predicate<? super T> child : getChildren(predicate)) {
+                OptionalInt childEstimate = estimateMatches(child, itemCount);
+                if (childEstimate.isEmpty()) {
+                    return OptionalInt.empty();
+                }
+                estimate = Math.min(itemCount, estimate + childEstimate.getAsInt());
+            }
+            return OptionalInt.of(estimate);
+        }
+
+        if (predicate instanceof NotPredicate) {
+            return estimateMatches(getNegatedPredicate(predicate), itemCount).isPresent()
+                    ? OptionalInt.of(itemCount)
+                    : OptionalInt.empty();
+        }
+
+        return OptionalInt.empty();
+    }
+
+    private Optional<SearchIndex<T>> findSearchIndex(Predicate<?> predicate) {
+        return searchIndexes.stream()
+                .filter(searchIndex -> searchIndex.canResolve(predicate))
+                .findFirst();
+    }
+
+    private Set<T> intersect(Set<T> first, Set<T> second) {
+        Set<T> smaller = first.size() <= second.size() ? first : second;
+        Set<T> larger = smaller == first ? second : first;
+        Set<T> intersection = newIdentitySet();
+        smaller.stream().filter(larger::contains).forEach(intersection::add);
+        return intersection;
+    }
+
+    // the children of a combined predicate on T are predicates on T as well
+    @SuppressWarnings("unchecked")
+    private List<Predicate<? super T>> getChildren(Predicate<? super T> predicate) {
+        List<? extends Predicate<?>> children = predicate instanceof AllOfPredicate
+                ? ((AllOfPredicate<?>) predicate).getPredicates()
+                : ((AnyOfPredicate<?>) predicate).getPredicates();
+        return (List<Predicate<? super T>>) children;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<? super T> getNegatedPredicate(Predicate<? super T> predicate) {
+        return (Predicate<? super T>) ((NotPredicate<?>) predicate).getPredicate();
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,162 @@
+package gomedic.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * An index from the values of some numeric fields of the items in a list to the items having them, sorted by value.
+ * <p>
+ * The index is kept up to date by the list as items are added and removed, so that a search for ranges of values
+ * is answered by a range query on a sorted map in O(log n + k) time, where k is the number of items found.
+ */
+public class RangeIndex<T> implements SearchIndex<T> {
+
+    /**
+     * A numeric field of a patient that can be kept in a {@code RangeIndex}.
+     */
+    public enum Field {
+        AGE,
+        HEIGHT,
+        WEIGHT
+    }
+
+    private final Map<Field, ToIntFunction<? super T>> fieldReaders = new EnumMap<>(Field.class);
+    private final Map<Field, NavigableMap<Integer, Set<T>>> sortedValues = new EnumMap<>(Field.class);
+    // increased on every change, so that a resolved predicate can tell whether its matches are still current
+    private long version;
+
+    /**
+     * Creates an index of the values read from each item by {@code fieldReaders}.
+     */
+    public RangeIndex(Map<Field, ToIntFunction<? super T>> fieldReaders) {
+        requireNonNull(fieldReaders);
+        this.fieldReaders.putAll(fieldReaders);
+        fieldReaders.keySet().forEach(field -> sortedValues.put(field, new TreeMap<>()));
+    }
+
+    /**
+     * Returns true if {@code field} is kept in this index.
+     */
+    public boolean covers(Field field) {
+        return sortedValues.containsKey(field);
+    }
+
+    @Override
+    public void add(T item) {
+        requireNonNull(item);
+        version++;
+        fieldReaders.forEach((field, reader) -> sortedValues.get(field)
+                .computeIfAbsent(reader.applyAsInt(item), unused -> newIdentitySet())
+                .add(item));
+    }
+
+    @Override
+    public void remove(T item) {
+        requireNonNull(item);
+        version++;
+        fieldReaders.forEach((field, reader) -> {
+            NavigableMap<Integer, Set<T>> fieldValues = sortedValues.get(field);
+            int value = reader.applyAsInt(item);
+            Set<T> items = fieldValues.get(value);
+            if (items != null && items.remove(item) && items.isEmpty()) {
+                fieldValues.remove(value);
+            }
+        });
+    }
+
+    @Override
+    public void setAll(Collection<? extends T> items) {
+        requireNonNull(items);
+        sortedValues.values().forEach(Map::clear);
+        items.forEach(this::add);
+        version++;
+    }
+
+    /**
+     * Returns true if {@code predicate} looks for ranges in a field kept in this index.
+     */
+    @Override
+    public boolean canResolve(Predicate<?> predicate) {
+        return predicate instanceof NumericRangePredicate
+                && covers(((NumericRangePredicate<?>) predicate).getField());
+    }
+
+    /**
+     * Returns the items whose {@code field} lies in any of the {@code ranges}.
+     *
+     * @throws IllegalArgumentException if {@code field} is not kept in this index.
+     */
+    public Set<T> getMatches(Field field, List<NumericRange> ranges) {
+        requireNonNull(ranges);
+        if (!covers(field)) {
+            throw new IllegalArgumentException(field + " is not kept in this index");
+        }
+
+        Set<T> matches = newIdentitySet();
+        for (NumericRange range : ranges) {
+            if (range.min <= range.max) {
+                sortedValues.get(field).subMap(range.min, true, range.max, true).values().forEach(matches::addAll);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public Set<T> getMatches(Predicate<?> predicate) {
+        NumericRangePredicate<?> rangePredicate = toRangePredicate(predicate);
+        return getMatches(rangePredicate.getField(), rangePredicate.getRanges());
+    }
+
+    /**
+     * Returns the total number of items with a value in each of the ranges, which counts an item once for every
+     * range its value lies in.
+     */
+    @Override
+    public int estimateMatches(Predicate<?> predicate) {
+        NumericRangePredicate<?> rangePredicate = toRangePredicate(predicate);
+        int estimate = 0;
+        for (NumericRange range : rangePredicate.getRanges()) {
+            if (range.min <= range.max) {
+                for (Set<T> items : sortedValues.get(rangePredicate.getField())
+                        .subMap(range.min, true, range.max, true).values()) {
+                    estimate += items.size();
+                }
+            }
+        }
+        return estimate;
+    }
+
+    @Override
+    public Predicate<T> resolve(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        if (!canResolve(predicate)) {
+            return predicate::test;
+        }
+
+        Set<T> matches = getMatches(predicate);
+        long resolvedVersion = version;
+        return item -> resolvedVersion == version ? matches.contains(item) : predicate.test(item);
+    }
+
+    private NumericRangePredicate<?> toRangePredicate(Predicate<?> predicate) {
+        if (!canResolve(predicate)) {
+            throw new IllegalArgumentException(predicate + " cannot be answered from this index");
+        }
+        return (NumericRangePredicate<?>) predicate;
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
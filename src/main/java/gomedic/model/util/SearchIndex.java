@@ -0,0 +1,54 @@
+package gomedic.model.util;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An index of some fields of the items in a list, kept up to date by the list, that answers the predicates
+ * of the find commands on those fields without testing every item.
+ */
+public interface SearchIndex<T> {
+
+    /**
+     * Adds the fields of {@code item} to the index.
+     */
+    void add(T item);
+
+    /**
+     * Removes {@code item}, which has to be the same instance as the one added, from the index.
+     */
+    void remove(T item);
+
+    /**
+     * Replaces the content of the index with the fields of {@code items}.
+     */
+    void setAll(Collection<? extends T> items);
+
+    /**
+     * Returns true if {@code predicate} can be answered from this index.
+     */
+    boolean canResolve(Predicate<?> predicate);
+
+    /**
+     * Returns the items matching {@code predicate}.
+     *
+     * @throws IllegalArgumentException if {@link #canResolve(Predicate)} is false for {@code predicate}.
+     */
+    Set<T> getMatches(Predicate<?> predicate);
+
+    /**
+     * Returns an estimate of the number of items matching {@code predicate}, which is at least the actual number
+     * and is cheaper to find than the items themselves.
+     *
+     * @throws IllegalArgumentException if {@link #canResolve(Predicate)} is false for {@code predicate}.
+     */
+    int estimateMatches(Predicate<?> predicate);
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, answered from this index if
+     * {@link #canResolve(Predicate)} is true for it.
+     * Items added to the list after this call are tested with {@code predicate} itself.
+     */
+    Predicate<T> resolve(Predicate<? super T> predicate);
+}
@@ -0,0 +1,110 @@
+package gomedic.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from every sequence of three characters in a set of words to the words containing it.
+ * <p>
+ * A word contains a keyword of at least three characters only if it contains every trigram of the keyword, so only
+ * the words containing the rarest trigram of the keyword have to be compared with it.
+ * Keywords shorter than three characters have no trigram, and are compared with every word instead.
+ */
+class TrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Set<String> words = new HashSet<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code word} to the index. Adding a word that is already in the index has no effect.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        if (!words.add(word)) {
+            return;
+        }
+
+        for (String trigram : getTrigrams(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index. Removing a word that is not in the index has no effect.
+     */
+    void remove(String word) {
+        requireNonNull(word);
+        if (!words.remove(word)) {
+            return;
+        }
+
+        for (String trigram : getTrigrams(word)) {
+            Set<String> trigramWords = wordsByTrigram.get(trigram);
+            trigramWords.remove(word);
+            if (trigramWords.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes every word from the index.
+     */
+    void clear() {
+        words.clear();
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the words in the index that contain {@code keyword}.
+     */
+    List<String> getWordsContaining(String keyword) {
+        requireNonNull(keyword);
+        List<String> matchingWords = new ArrayList<>();
+        for (String candidate : getCandidates(keyword)) {
+            if (candidate.contains(keyword)) {
+                matchingWords.add(candidate);
+            }
+        }
+        return matchingWords;
+    }
+
+    /**
+     * Returns the words that contain the rarest trigram of {@code keyword}, which include every word containing
+     * {@code keyword}, or all the words if {@code keyword} is too short to have a trigram.
+     */
+    private Set<String> getCandidates(String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            return words;
+        }
+
+        Set<String> candidates = null;
+        for (String trigram : getTrigrams(keyword)) {
+            Set<String> trigramWords = wordsByTrigram.get(trigram);
+            if (trigramWords == null) {
+                return Set.of();
+            }
+
+            if (candidates == null || trigramWords.size() < candidates.size()) {
+                candidates = trigramWords;
+            }
+        }
+        return candidates;
+    }
+
+    private static Set<String> getTrigrams(String word) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            trigrams.add(word.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
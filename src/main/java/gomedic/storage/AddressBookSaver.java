@@ -0,0 +1,159 @@
+package gomedic.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import gomedic.commons.core.LogsCenter;
+import gomedic.commons.util.StringUtil;
+import gomedic.model.AddressBookSnapshot;
+import gomedic.model.ModifiedData;
+import gomedic.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} away from the thread that requests the save.
+ * <p>
+ * A snapshot of the lists of the address book is taken when the save is requested, so it can be changed again
+ * right away without rebuilding any index of the address book on the thread requesting the save.
+ * Saves requested while an earlier one is still waiting are merged into a single write of the latest snapshot.
+ * A failed save is kept so that it is retried by the next save or by {@link #flush()}.
+ */
+public class AddressBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Executor executor;
+
+    // the latest snapshot that is not saved yet, and the data changed since the last successful save
+    private AddressBookSnapshot pendingAddressBook;
+    private final ModifiedData unsavedData = new ModifiedData();
+    private boolean isSaveScheduled;
+    private IOException failure;
+
+    /**
+     * Creates an {@code AddressBookSaver} that saves to {@code storage} on its own background thread.
+     */
+    public AddressBookSaver(AddressBookStorage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookSaver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates an {@code AddressBookSaver} that saves to {@code storage} by running the saves on {@code executor}.
+     */
+    public AddressBookSaver(AddressBookStorage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook} to the storage as soon as the saves before it are done.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            unsavedData.addAll(addressBook.getModifiedData());
+            if (isSaveScheduled) {
+                return;
+            }
+            isSaveScheduled = true;
+        }
+
+        executor.execute(this::savePendingAddressBook);
+    }
+
+    private void savePendingAddressBook() {
+        AddressBookSnapshot addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook.withModifiedData(unsavedData);
+            pendingAddressBook = null;
+            unsavedData.clear();
+        }
+
+        boolean isSaved = false;
+        try {
+            storage.saveAddressBook(addressBook);
+            isSaved = true;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save the address book " + StringUtil.getDetails(ioe));
+            synchronized (this) {
+                failure = ioe;
+                unsavedData.addAll(addressBook.getModifiedData());
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = addressBook;
+                }
+            }
+        }
+
+        synchronized (this) {
+            if (isSaved && pendingAddressBook != null) {
+                executor.execute(this::savePendingAddressBook);
+                return;
+            }
+            isSaveScheduled = false;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Returns true if every save requested so far has been written to the storage.
+     */
+    public synchronized boolean isSaved() {
+        return !isSaveScheduled && pendingAddressBook == null;
+    }
+
+    /**
+     * Returns the failure of a save since the last call, if any, and clears it.
+     */
+    public synchronized Optional<IOException> pollFailure() {
+        Optional<IOException> lastFailure = Optional.ofNullable(failure);
+        failure = null;
+        return lastFailure;
+    }
+
+    /**
+     * Waits for the requested saves to finish, then retries any failed save on the calling thread.
+     *
+     * @throws InterruptedIOException if the calling thread is interrupted while a save is still scheduled, which is
+     *     left to finish in the background.
+     * @throws IOException if the address book still cannot be saved.
+     */
+    public void flush() throws IOException {
+        synchronized (this) {
+            while (isSaveScheduled) {
+                try {
+                    wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    logger.warning("Interrupted while waiting for the address book to be saved");
+                    throw new InterruptedIOException("Interrupted before the address book was saved");
+                }
+            }
+
+            if (pendingAddressBook == null) {
+                return;
+            }
+            failure = null;
+            isSaveScheduled = true;
+        }
+
+        savePendingAddressBook();
+        Optional<IOException> lastFailure = pollFailure();
+        if (lastFailure.isPresent()) {
+            throw lastFailure.get();
+        }
+    }
+}
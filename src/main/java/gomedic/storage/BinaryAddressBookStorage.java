@@ -0,0 +1,89 @@
+package gomedic.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import gomedic.commons.core.LogsCenter;
+import gomedic.commons.exceptions.DataConversionException;
+import gomedic.commons.exceptions.IllegalValueException;
+import gomedic.commons.util.FileUtil;
+import gomedic.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * Data files in the json format are read as well, so that they are converted on the next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path dataRootFilePath;
+
+    public BinaryAddressBookStorage(Path dataRootFilePath) {
+        this.dataRootFilePath = dataRootFilePath;
+    }
+
+    @Override
+    public Path getAddressBookDataFilePath() {
+        return dataRootFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(dataRootFilePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The file is read as json if it is not a binary snapshot, and the backup of the file is read if the file
+     * itself is missing or damaged, the same way as by {@link JsonAddressBookStorage}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the binary snapshot at {@code filePath}.
+     *
+     * @throws DataConversionException if the file is not a valid binary snapshot.
+     */
+    static ReadOnlyAddressBook readBinaryFile(Path filePath) throws DataConversionException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return BinarySerializableAddressBook.read(input, Files.size(filePath));
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, dataRootFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.backUpFile(filePath);
+        FileUtil.writeAtomically(filePath, output -> BinarySerializableAddressBook.write(addressBook, output));
+    }
+}
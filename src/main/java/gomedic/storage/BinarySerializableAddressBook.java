@@ -0,0 +1,359 @@
+package gomedic.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import gomedic.commons.exceptions.IllegalValueException;
+import gomedic.model.AddressBook;
+import gomedic.model.ReadOnlyAddressBook;
+import gomedic.model.activity.Activity;
+import gomedic.model.activity.ActivityId;
+import gomedic.model.activity.Description;
+import gomedic.model.activity.Title;
+import gomedic.model.activity.exceptions.ConflictingActivityException;
+import gomedic.model.activity.exceptions.DuplicateActivityFoundException;
+import gomedic.model.commonfield.Name;
+import gomedic.model.commonfield.Phone;
+import gomedic.model.commonfield.Time;
+import gomedic.model.person.doctor.Department;
+import gomedic.model.person.doctor.Doctor;
+import gomedic.model.person.doctor.DoctorId;
+import gomedic.model.person.exceptions.DuplicatePersonException;
+import gomedic.model.person.patient.Age;
+import gomedic.model.person.patient.BloodType;
+import gomedic.model.person.patient.Gender;
+import gomedic.model.person.patient.Height;
+import gomedic.model.person.patient.Patient;
+import gomedic.model.person.patient.PatientId;
+import gomedic.model.person.patient.Weight;
+import gomedic.model.tag.Tag;
+import gomedic.model.userprofile.Organization;
+import gomedic.model.userprofile.Position;
+import gomedic.model.userprofile.UserProfile;
+
+/**
+ * Reads and writes an address book in the binary snapshot format.
+ * <p>
+ * The file starts with {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}, followed by a table of all the distinct
+ * strings in the address book. The user profile, patients, doctors and activities come after it, where every field
+ * is an index into the string table, an id number or a time in epoch seconds, and every patient, doctor and
+ * activity is prefixed by its length in bytes so that fields added by later versions can be skipped.
+ * Values that appear many times, such as blood types and departments, are only created and validated once.
+ */
+class BinarySerializableAddressBook {
+    public static final int MAGIC_NUMBER = 0x474d4442; // "GMDB"
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY = "Data file is not in the binary snapshot format!";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot format version %d is not supported!";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Binary snapshot refers to a missing string!";
+    public static final String MESSAGE_INVALID_LENGTH = "Binary snapshot contains a negative length!";
+    public static final String MESSAGE_INCOMPLETE = "Binary snapshot ends before all of its data is read!";
+
+    private static final int NO_PATIENT = 0;
+
+    /**
+     * Returns true if {@code filePath} starts with the {@link #MAGIC_NUMBER} of the binary snapshot format.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(filePath))) {
+            return input.readInt() == MAGIC_NUMBER;
+        } catch (EOFException eofe) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes {@code source} to {@code output} in the binary snapshot format.
+     */
+    public static void write(ReadOnlyAddressBook source, OutputStream output) throws IOException {
+        new Writer().write(source, output);
+    }
+
+    /**
+     * Reads an address book in the binary snapshot format from {@code input}, which holds {@code size} bytes.
+     * Each record is read into a buffer reused for all of them, so only the strings and the address book itself
+     * take up memory in proportion to the size of the snapshot.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or the snapshot is incomplete.
+     */
+    public static AddressBook read(InputStream input, long size) throws IOException, IllegalValueException {
+        try {
+            return new Reader(size).read(new DataInputStream(input));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        } catch (EOFException | BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_INCOMPLETE);
+        }
+    }
+
+    /**
+     * Writes an address book, collecting its strings into the string table in a first pass over it.
+     */
+    private static class Writer {
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+
+        private void write(ReadOnlyAddressBook source, OutputStream output) throws IOException {
+            // the first pass writes nothing, and only fills up the string table
+            writeItems(source, new DataOutputStream(OutputStream.nullOutputStream()));
+
+            DataOutputStream dataOutput = new DataOutputStream(output);
+            dataOutput.writeInt(MAGIC_NUMBER);
+            dataOutput.writeInt(FORMAT_VERSION);
+            dataOutput.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                dataOutput.writeInt(bytes.length);
+                dataOutput.write(bytes);
+            }
+            writeItems(source, dataOutput);
+            dataOutput.flush();
+        }
+
+        private void writeItems(ReadOnlyAddressBook source, DataOutputStream output) throws IOException {
+            UserProfile userProfile = source.getUserProfile();
+            output.writeInt(indexOf(userProfile.getName().fullName));
+            output.writeInt(indexOf(userProfile.getPosition().positionName));
+            output.writeInt(indexOf(userProfile.getDepartment().departmentName));
+            output.writeInt(indexOf(userProfile.getOrganization().organizationName));
+
+            List<Patient> patients = source.getPatientListSortedById();
+            output.writeInt(patients.size());
+            for (Patient patient : patients) {
+                DataOutputStream record = startRecord();
+                record.writeInt(patient.getId().getIdNumber());
+                record.writeInt(indexOf(patient.getName().fullName));
+                record.writeInt(indexOf(patient.getPhone().value));
+                record.writeInt(indexOf(patient.getAge().age));
+                record.writeInt(indexOf(patient.getBloodType().bloodType));
+                record.writeInt(indexOf(patient.getGender().gender));
+                record.writeInt(indexOf(patient.getHeight().height));
+                record.writeInt(indexOf(patient.getWeight().weight));
+                record.writeInt(patient.getMedicalConditions().size());
+                for (Tag tag : patient.getMedicalConditions()) {
+                    record.writeInt(indexOf(tag.tagName));
+                }
+                endRecord(output);
+            }
+
+            List<Doctor> doctors = source.getDoctorListSortedById();
+            output.writeInt(doctors.size());
+            for (Doctor doctor : doctors) {
+                DataOutputStream record = startRecord();
+                record.writeInt(doctor.getId().getIdNumber());
+                record.writeInt(indexOf(doctor.getName().fullName));
+                record.writeInt(indexOf(doctor.getPhone().value));
+                record.writeInt(indexOf(doctor.getDepartment().departmentName));
+                endRecord(output);
+            }
+
+            List<Activity> activities = source.getActivityListSortedById();
+            output.writeInt(activities.size());
+            for (Activity activity : activities) {
+                DataOutputStream record = startRecord();
+                record.writeInt(activity.getActivityId().getIdNumber());
+                record.writeInt(activity.isAppointment() ? activity.getPatientId().getIdNumber() : NO_PATIENT);
+                record.writeLong(activity.getStartTime().time.toEpochSecond(ZoneOffset.UTC));
+                record.writeLong(activity.getEndTime().time.toEpochSecond(ZoneOffset.UTC));
+                record.writeInt(indexOf(activity.getTitle().toString()));
+                record.writeInt(indexOf(activity.getDescription().toString()));
+                endRecord(output);
+            }
+        }
+
+        private int indexOf(String string) {
+            return stringIndexes.computeIfAbsent(string, unused -> {
+                strings.add(string);
+                return strings.size() - 1;
+            });
+        }
+
+        private DataOutputStream startRecord() {
+            recordBuffer.reset();
+            return new DataOutputStream(recordBuffer);
+        }
+
+        private void endRecord(DataOutputStream output) throws IOException {
+            output.writeInt(recordBuffer.size());
+            recordBuffer.writeTo(output);
+        }
+    }
+
+    /**
+     * Reads an address book, creating each distinct value of a field only once.
+     */
+    private static class Reader {
+        private final Map<Integer, Name> names = new HashMap<>();
+        private final Map<Integer, Phone> phones = new HashMap<>();
+        private final Map<Integer, Age> ages = new HashMap<>();
+        private final Map<Integer, BloodType> bloodTypes = new HashMap<>();
+        private final Map<Integer, Gender> genders = new HashMap<>();
+        private final Map<Integer, Height> heights = new HashMap<>();
+        private final Map<Integer, Weight> weights = new HashMap<>();
+        private final Map<Integer, Tag> tags = new HashMap<>();
+        private final Map<Integer, Department> departments = new HashMap<>();
+        private final Map<Integer, Title> titles = new HashMap<>();
+        private final Map<Integer, Description> descriptions = new HashMap<>();
+        private final long size;
+        private final List<String> strings = new ArrayList<>();
+        private byte[] recordBytes = new byte[0];
+
+        private Reader(long size) {
+            this.size = size;
+        }
+
+        private AddressBook read(DataInputStream input) throws IOException, IllegalValueException {
+            if (input.readInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY);
+            }
+            int version = input.readInt();
+            if (version < 1 || version > FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            // the strings are added as they are read, so a corrupted count runs into the end of the snapshot
+            for (int count = readLength(input); count > 0; count--) {
+                byte[] bytes = new byte[readLength(input)];
+                input.readFully(bytes);
+                strings.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+
+            return readItems(input);
+        }
+
+        private AddressBook readItems(DataInputStream input) throws IOException, IllegalValueException {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setUserProfile(new UserProfile(valueOf(names, input.readInt(), Name::new),
+                    new Position(stringAt(input.readInt())),
+                    valueOf(departments, input.readInt(), Department::new),
+                    new Organization(stringAt(input.readInt()))));
+
+            List<Patient> patients = new ArrayList<>();
+            for (int count = input.readInt(); count > 0; count--) {
+                ByteBuffer record = readRecord(input);
+                PatientId id = new PatientId(record.getInt());
+                Name name = valueOf(names, record.getInt(), Name::new);
+                Phone phone = valueOf(phones, record.getInt(), Phone::new);
+                Age age = valueOf(ages, record.getInt(), Age::new);
+                BloodType bloodType = valueOf(bloodTypes, record.getInt(), BloodType::new);
+                Gender gender = valueOf(genders, record.getInt(), Gender::new);
+                Height height = valueOf(heights, record.getInt(), Height::new);
+                Weight weight = valueOf(weights, record.getInt(), Weight::new);
+                Set<Tag> medicalConditions = new HashSet<>();
+                for (int tagCount = record.getInt(); tagCount > 0; tagCount--) {
+                    medicalConditions.add(valueOf(tags, record.getInt(), Tag::new));
+                }
+                patients.add(new Patient(name, phone, id, age, bloodType, gender, height, weight,
+                        medicalConditions));
+            }
+
+            List<Doctor> doctors = new ArrayList<>();
+            for (int count = input.readInt(); count > 0; count--) {
+                ByteBuffer record = readRecord(input);
+                DoctorId id = new DoctorId(record.getInt());
+                Name name = valueOf(names, record.getInt(), Name::new);
+                Phone phone = valueOf(phones, record.getInt(), Phone::new);
+                Department department = valueOf(departments, record.getInt(), Department::new);
+                doctors.add(new Doctor(name, phone, id, department));
+            }
+
+            List<Activity> activities = new ArrayList<>();
+            for (int count = input.readInt(); count > 0; count--) {
+                ByteBuffer record = readRecord(input);
+                ActivityId id = new ActivityId(record.getInt());
+                int patientIdNumber = record.getInt();
+                Time startTime = new Time(LocalDateTime.ofEpochSecond(record.getLong(), 0, ZoneOffset.UTC));
+                Time endTime = new Time(LocalDateTime.ofEpochSecond(record.getLong(), 0, ZoneOffset.UTC));
+                Title title = valueOf(titles, record.getInt(), Title::new);
+                Description description = valueOf(descriptions, record.getInt(), Description::new);
+                activities.add(patientIdNumber == NO_PATIENT
+                        ? new Activity(id, startTime, endTime, title, description)
+                        : new Activity(id, new PatientId(patientIdNumber), startTime, endTime, title, description));
+            }
+
+            try {
+                addressBook.setPatients(patients);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT);
+            }
+
+            try {
+                addressBook.setDoctors(doctors);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_DOCTOR);
+            }
+
+            try {
+                addressBook.setActivities(activities);
+            } catch (DuplicateActivityFoundException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ACTIVITY + " "
+                        + e.getMessage());
+            } catch (ConflictingActivityException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_CONFLICTING_ACTIVITY + " "
+                        + e.getMessage());
+            }
+
+            return addressBook;
+        }
+
+        private int readLength(DataInputStream input) throws IOException, IllegalValueException {
+            int length = input.readInt();
+            if (length < 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+            }
+            if (length > size) {
+                throw new EOFException();
+            }
+            return length;
+        }
+
+        /**
+         * Reads the next record into the buffer shared by all records, which is only valid until the next call.
+         */
+        private ByteBuffer readRecord(DataInputStream input) throws IOException, IllegalValueException {
+            int length = readLength(input);
+            if (length > recordBytes.length) {
+                recordBytes = new byte[Math.max(length, recordBytes.length * 2)];
+            }
+            input.readFully(recordBytes, 0, length);
+            return ByteBuffer.wrap(recordBytes, 0, length);
+        }
+
+        private String stringAt(int index) throws IllegalValueException {
+            if (index < 0 || index >= strings.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_STRING_INDEX);
+            }
+            return strings.get(index);
+        }
+
+        private <T> T valueOf(Map<Integer, T> values, int index, Function<String, T> constructor)
+                throws IllegalValueException {
+            T value = values.get(index);
+            if (value == null) {
+                value = constructor.apply(stringAt(index));
+                values.put(index, value);
+            }
+            return value;
+        }
+    }
+}
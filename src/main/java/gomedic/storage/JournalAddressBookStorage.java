@@ -0,0 +1,234 @@
+package gomedic.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import gomedic.commons.core.LogsCenter;
+import gomedic.commons.exceptions.DataConversionException;
+import gomedic.commons.exceptions.IllegalValueException;
+import gomedic.commons.util.AppUtil;
+import gomedic.commons.util.FileUtil;
+import gomedic.commons.util.JsonUtil;
+import gomedic.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot together with an append-only journal on the hard disk.
+ * <p>
+ * Each save appends one compact json line per patient, doctor, activity or user profile that changed since the
+ * previous save to the journal, so that its cost depends on the size of the change rather than the size of the
+ * address book. Once the journal holds {@code snapshotInterval} records, a full snapshot is written in the same
+ * format as {@link JsonAddressBookStorage} and the journal is emptied, which keeps the replay on startup short.
+ * <p>
+ * Every snapshot is saved with a new generation, and every record with the generation of the snapshot it follows.
+ * A snapshot already contains the changes of the save that wrote it, which are never journaled, so the records of
+ * an older generation left behind by a crash before the journal is emptied are skipped rather than replayed over it.
+ * Each append is flushed to the disk before the save returns.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 500;
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path dataRootFilePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int snapshotInterval;
+
+    // the address book in the snapshot and journal at dataRootFilePath, null until it is first read or saved
+    private JournaledAddressBook journaledAddressBook;
+    private int journalRecordCount;
+    // the generation of the snapshot at dataRootFilePath, null until it is first read or saved
+    private Long snapshotGeneration;
+
+    public JournalAddressBookStorage(Path dataRootFilePath) {
+        this(dataRootFilePath, DEFAULT_SNAPSHOT_INTERVAL, false);
+    }
+
+    public JournalAddressBookStorage(Path dataRootFilePath, int snapshotInterval) {
+        this(dataRootFilePath, snapshotInterval, false);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that writes a full snapshot every {@code snapshotInterval}
+     * journal records, without any whitespace if {@code isCompact} is true.
+     */
+    public JournalAddressBookStorage(Path dataRootFilePath, int snapshotInterval, boolean isCompact) {
+        requireNonNull(dataRootFilePath);
+        AppUtil.checkArgument(snapshotInterval > 0, "Snapshot interval should be positive");
+        this.dataRootFilePath = dataRootFilePath;
+        this.snapshotStorage = new JsonAddressBookStorage(dataRootFilePath, isCompact);
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public Path getAddressBookDataFilePath() {
+        return dataRootFilePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(dataRootFilePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the journal next to it.
+     * A journal whose last record was only partially written is replayed up to that record.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or a complete journal record is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<JsonAddressBookStorage.Snapshot> snapshot = snapshotStorage.readSnapshot(filePath);
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long generation = snapshot.get().journalGeneration;
+        JournaledAddressBook addressBook = new JournaledAddressBook(snapshot.get().addressBook);
+        int recordCount = replayJournal(getJournalFilePath(filePath), generation, addressBook);
+
+        ReadOnlyAddressBook readAddressBook;
+        try {
+            readAddressBook = addressBook.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found after replaying the journal of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(dataRootFilePath)) {
+            journaledAddressBook = addressBook;
+            journalRecordCount = recordCount;
+            snapshotGeneration = generation;
+        }
+        return Optional.of(readAddressBook);
+    }
+
+    private int replayJournal(Path journalFilePath, long generation, JournaledAddressBook addressBook)
+            throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath);
+        int recordCount = 0;
+        int skippedRecordCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+                if (record.isBefore(generation)) {
+                    skippedRecordCount++;
+                    continue;
+                }
+                record.applyTo(addressBook);
+                recordCount++;
+            } catch (IOException | IllegalValueException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring the incomplete last record of " + journalFilePath + ": " + e);
+                    break;
+                }
+                logger.info("Illegal record found in " + journalFilePath + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+        }
+        if (skippedRecordCount > 0) {
+            logger.info("Skipped " + skippedRecordCount + " records of " + journalFilePath
+                    + " already contained in its snapshot");
+        }
+        return recordCount;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, dataRootFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the last read or save are journaled when saving to the data file of this storage,
+     * otherwise a full snapshot is written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(dataRootFilePath)) {
+            saveSnapshot(addressBook, filePath, null);
+            return;
+        }
+
+        if (journaledAddressBook == null) {
+            snapshotGeneration = saveSnapshot(addressBook, filePath, snapshotGeneration);
+            journaledAddressBook = new JournaledAddressBook(addressBook);
+            journalRecordCount = 0;
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = journaledAddressBook.update(addressBook);
+        if (records.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (journalRecordCount + records.size() >= snapshotInterval) {
+                snapshotGeneration = saveSnapshot(addressBook, filePath, snapshotGeneration);
+                journalRecordCount = 0;
+            } else {
+                appendToJournal(records, filePath);
+                journalRecordCount += records.size();
+            }
+        } catch (IOException ioe) {
+            // the in-memory copy is ahead of the files now, so the next save has to write a full snapshot
+            journaledAddressBook = null;
+            throw ioe;
+        }
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records, Path filePath) throws IOException {
+        StringBuilder journalEntries = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            journalEntries.append(JsonUtil.toCompactJsonString(record.withGeneration(snapshotGeneration)))
+                    .append(System.lineSeparator());
+        }
+        FileUtil.appendToFile(getJournalFilePath(filePath), journalEntries.toString());
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook} to {@code filePath} and empties the journal next to it, then returns
+     * the generation of the new snapshot, which follows {@code previousGeneration}.
+     * If the generation of the records in the journal is not known, the journal is emptied before the snapshot is
+     * written instead, as none of its records may be replayed over it.
+     */
+    private long saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath, Long previousGeneration)
+            throws IOException {
+        logger.fine("Writing a snapshot to data file: " + filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (previousGeneration == null) {
+            Files.deleteIfExists(journalFilePath);
+        }
+
+        long generation = previousGeneration == null ? 0 : previousGeneration + 1;
+        snapshotStorage.saveAddressBook(addressBook, filePath, generation);
+        Files.deleteIfExists(journalFilePath);
+        return generation;
+    }
+}
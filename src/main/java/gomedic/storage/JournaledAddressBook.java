@@ -0,0 +1,179 @@
+package gomedic.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import gomedic.commons.exceptions.IllegalValueException;
+import gomedic.model.AddressBook;
+import gomedic.model.DataType;
+import gomedic.model.ModifiedData;
+import gomedic.model.ReadOnlyAddressBook;
+import gomedic.model.activity.Activity;
+import gomedic.model.activity.exceptions.ConflictingActivityException;
+import gomedic.model.activity.exceptions.DuplicateActivityFoundException;
+import gomedic.model.commonfield.Id;
+import gomedic.model.person.doctor.Doctor;
+import gomedic.model.person.patient.Patient;
+import gomedic.model.userprofile.UserProfile;
+import gomedic.storage.JsonAdaptedJournalRecord.Operation;
+
+/**
+ * The address book as it is stored by the snapshot and the journal together.
+ * It is kept in memory after a read or a save, so that the next save only has to journal the items that changed.
+ * Items are compared by reference, since the model never modifies an item in place but replaces it with a new one.
+ */
+class JournaledAddressBook {
+    private UserProfile userProfile;
+    private final Map<Id, Patient> patients = new LinkedHashMap<>();
+    private final Map<Id, Doctor> doctors = new LinkedHashMap<>();
+    private final Map<Id, Activity> activities = new LinkedHashMap<>();
+
+    /**
+     * Creates a {@code JournaledAddressBook} with the items in {@code source}.
+     */
+    public JournaledAddressBook(ReadOnlyAddressBook source) {
+        userProfile = source.getUserProfile().copy();
+        source.getPatientListSortedById().forEach(patient -> patients.put(patient.getId(), patient));
+        source.getDoctorListSortedById().forEach(doctor -> doctors.put(doctor.getId(), doctor));
+        source.getActivityListSortedById().forEach(activity -> activities.put(activity.getActivityId(), activity));
+    }
+
+    public void setUserProfile(UserProfile userProfile) {
+        this.userProfile = userProfile;
+    }
+
+    public void apply(Operation operation, Patient patient) {
+        apply(patients, operation, patient.getId(), patient);
+    }
+
+    public void apply(Operation operation, Doctor doctor) {
+        apply(doctors, operation, doctor.getId(), doctor);
+    }
+
+    public void apply(Operation operation, Activity activity) {
+        apply(activities, operation, activity.getActivityId(), activity);
+    }
+
+    private static <T> void apply(Map<Id, T> items, Operation operation, Id id, T item) {
+        if (operation == Operation.PUT) {
+            items.put(id, item);
+        } else {
+            items.remove(id);
+        }
+    }
+
+    /**
+     * Brings this address book up to date with {@code source}, and returns the records of the changes made to it.
+     * Only the items that {@code source} reports as modified are compared, each found in O(log n) time by its id,
+     * so a save of a few changed items does not go through the others. A list that {@code source} reports as
+     * replaced as a whole is compared in O(n) time without serializing any item that did not change.
+     */
+    public List<JsonAdaptedJournalRecord> update(ReadOnlyAddressBook source) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        ModifiedData modifiedData = source.getModifiedData();
+
+        if (modifiedData.getDataTypes().contains(DataType.USER_PROFILE)
+                && !source.getUserProfile().equals(userProfile)) {
+            userProfile = source.getUserProfile().copy();
+            records.add(JsonAdaptedJournalRecord.of(userProfile));
+        }
+
+        update(patients, source.getPatientListSortedById(), modifiedData.getIds(DataType.PATIENTS), Patient::getId,
+                JsonAdaptedJournalRecord::of, records);
+        update(doctors, source.getDoctorListSortedById(), modifiedData.getIds(DataType.DOCTORS), Doctor::getId,
+                JsonAdaptedJournalRecord::of, records);
+        update(activities, source.getActivityListSortedById(), modifiedData.getIds(DataType.ACTIVITIES),
+                Activity::getActivityId, JsonAdaptedJournalRecord::of, records);
+        return records;
+    }
+
+    private static <T> void update(Map<Id, T> items, List<T> sourceItems, Optional<Set<Id>> modifiedIds,
+                                   Function<T, Id> idOf,
+                                   BiFunction<Operation, T, JsonAdaptedJournalRecord> toRecord,
+                                   List<JsonAdaptedJournalRecord> records) {
+        if (modifiedIds.isEmpty()) {
+            updateAll(items, sourceItems, idOf, toRecord, records);
+            return;
+        }
+
+        for (Id id : modifiedIds.get()) {
+            Optional<T> sourceItem = findById(sourceItems, id, idOf);
+            if (sourceItem.isPresent() && items.get(id) != sourceItem.get()) {
+                items.put(id, sourceItem.get());
+                records.add(toRecord.apply(Operation.PUT, sourceItem.get()));
+            } else if (sourceItem.isEmpty() && items.containsKey(id)) {
+                records.add(toRecord.apply(Operation.DELETE, items.remove(id)));
+            }
+        }
+    }
+
+    private static <T> void updateAll(Map<Id, T> items, List<T> sourceItems, Function<T, Id> idOf,
+                                      BiFunction<Operation, T, JsonAdaptedJournalRecord> toRecord,
+                                      List<JsonAdaptedJournalRecord> records) {
+        Map<Id, T> removedItems = new HashMap<>(items);
+        for (T sourceItem : sourceItems) {
+            Id id = idOf.apply(sourceItem);
+            if (removedItems.remove(id) != sourceItem) {
+                items.put(id, sourceItem);
+                records.add(toRecord.apply(Operation.PUT, sourceItem));
+            }
+        }
+
+        for (T removedItem : removedItems.values()) {
+            items.remove(idOf.apply(removedItem));
+            records.add(toRecord.apply(Operation.DELETE, removedItem));
+        }
+    }
+
+    /**
+     * Returns the item with {@code id} in {@code sortedItems}, which are sorted by the number of their id.
+     */
+    private static <T> Optional<T> findById(List<T> sortedItems, Id id, Function<T, Id> idOf) {
+        int low = 0;
+        int high = sortedItems.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            T item = sortedItems.get(middle);
+            int comparison = Integer.compare(idOf.apply(item).getIdNumber(), id.getIdNumber());
+            if (comparison == 0) {
+                return Optional.of(item);
+            } else if (comparison < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if the activities are duplicated or conflicting.
+     */
+    public AddressBook toModelType() throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setUserProfile(userProfile);
+        addressBook.setPatients(new ArrayList<>(patients.values()));
+        addressBook.setDoctors(new ArrayList<>(doctors.values()));
+
+        try {
+            addressBook.setActivities(new ArrayList<>(activities.values()));
+        } catch (DuplicateActivityFoundException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ACTIVITY + " "
+                    + e.getMessage());
+        } catch (ConflictingActivityException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_CONFLICTING_ACTIVITY + " "
+                    + e.getMessage());
+        }
+
+        return addressBook;
+    }
+}
@@ -65,12 +65,19 @@ public class JsonAdaptedActivity {
      * @throws IllegalValueException if there were any data constraints violated in the adapted activity.
      */
     public Activity toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but skips the field checks of this adapter if {@code isTrusted} is true.
+     */
+    public Activity toModelType(boolean isTrusted) throws IllegalValueException {
         if (id == null) {
             throw new IllegalValueException(String.format(
                     MISSING_FIELD_MESSAGE_FORMAT, ActivityId.class.getSimpleName()));
         }
 
-        if (!ActivityId.isValidActivityId(id)) {
+        if (!isTrusted && !ActivityId.isValidActivityId(id)) {
             throw new IllegalValueException(ActivityId.MESSAGE_CONSTRAINTS);
         }
 
@@ -81,7 +88,7 @@ public class JsonAdaptedActivity {
                     MISSING_FIELD_MESSAGE_FORMAT, Title.class.getSimpleName()));
         }
 
-        if (!Title.isValidTitle(title)) {
+        if (!isTrusted && !Title.isValidTitle(title)) {
             throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
         }
 
@@ -92,7 +99,7 @@ public class JsonAdaptedActivity {
                     MISSING_FIELD_MESSAGE_FORMAT, Description.class.getSimpleName()));
         }
 
-        if (!Description.isValidDescription(description)) {
+        if (!isTrusted && !Description.isValidDescription(description)) {
             throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
         }
 
@@ -103,7 +110,7 @@ public class JsonAdaptedActivity {
                     MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
         }
 
-        if (!Time.isValidTime(startTime)) {
+        if (!isTrusted && !Time.isValidTime(startTime)) {
             throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
         }
 
@@ -114,7 +121,7 @@ public class JsonAdaptedActivity {
                     MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
         }
 
-        if (!Time.isValidTime(endTime)) {
+        if (!isTrusted && !Time.isValidTime(endTime)) {
             throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
         }
 
@@ -126,7 +133,7 @@ public class JsonAdaptedActivity {
                         MISSING_FIELD_MESSAGE_FORMAT, PatientId.class.getSimpleName()));
             }
 
-            if (!PatientId.isValidPatientId(patientId)) {
+            if (!isTrusted && !PatientId.isValidPatientId(patientId)) {
                 throw new IllegalValueException(PatientId.MESSAGE_CONSTRAINTS);
             }
 
@@ -49,10 +49,17 @@ public class JsonAdaptedDoctor {
      * @throws IllegalValueException if there were any data constraints violated in the adapted doctor.
      */
     public Doctor toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but skips the field checks of this adapter if {@code isTrusted} is true.
+     */
+    public Doctor toModelType(boolean isTrusted) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        if (!isTrusted && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
         final Name modelName = new Name(name);
@@ -60,7 +67,7 @@ public class JsonAdaptedDoctor {
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
+        if (!isTrusted && !Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
         final Phone modelPhone = new Phone(phone);
@@ -69,7 +76,7 @@ public class JsonAdaptedDoctor {
             throw new IllegalValueException(String.format(
                     MISSING_FIELD_MESSAGE_FORMAT, DoctorId.class.getSimpleName()));
         }
-        if (!DoctorId.isValidDoctorId(id)) {
+        if (!isTrusted && !DoctorId.isValidDoctorId(id)) {
             throw new IllegalValueException(DoctorId.MESSAGE_CONSTRAINTS);
         }
         final DoctorId modelId = new DoctorId(id);
@@ -79,7 +86,7 @@ public class JsonAdaptedDoctor {
                     Department.class.getSimpleName()));
         }
 
-        if (!Department.isValidDepartmentName(department)) {
+        if (!isTrusted && !Department.isValidDepartmentName(department)) {
             throw new IllegalValueException(Department.MESSAGE_CONSTRAINTS);
         }
         final Department modelDepartment = new Department(department);
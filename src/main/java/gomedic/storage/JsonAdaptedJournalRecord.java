@@ -0,0 +1,110 @@
+package gomedic.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import gomedic.commons.exceptions.IllegalValueException;
+import gomedic.model.activity.Activity;
+import gomedic.model.person.doctor.Doctor;
+import gomedic.model.person.patient.Patient;
+import gomedic.model.userprofile.UserProfile;
+
+/**
+ * Jackson-friendly version of a single change made to the address book, as appended to the journal.
+ * Exactly one of the patient, doctor, activity or user profile is present in a record.
+ * <p>
+ * Each record is appended with the generation of the snapshot it follows, so that a record from before the latest
+ * snapshot can be told apart. Records journaled before generations were kept have none.
+ */
+class JsonAdaptedJournalRecord {
+    public static final String MESSAGE_INVALID_RECORD = "Journal record must contain exactly one item!";
+
+    /**
+     * The kinds of change that can be journaled.
+     * A put adds the item, or replaces the item with the same id, while a delete removes the item with the same id.
+     */
+    enum Operation {
+        PUT,
+        DELETE
+    }
+
+    private final Operation operation;
+    private final JsonAdaptedPatient patient;
+    private final JsonAdaptedDoctor doctor;
+    private final JsonAdaptedActivity activity;
+    private final JsonAdaptedUserProfile userProfile;
+    private final Long generation;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") Operation operation,
+                                    @JsonProperty("patient") JsonAdaptedPatient patient,
+                                    @JsonProperty("doctor") JsonAdaptedDoctor doctor,
+                                    @JsonProperty("activity") JsonAdaptedActivity activity,
+                                    @JsonProperty("userProfile") JsonAdaptedUserProfile userProfile,
+                                    @JsonProperty("generation") Long generation) {
+        this.operation = operation;
+        this.patient = patient;
+        this.doctor = doctor;
+        this.activity = activity;
+        this.userProfile = userProfile;
+        this.generation = generation;
+    }
+
+    public static JsonAdaptedJournalRecord of(Operation operation, Patient patient) {
+        return new JsonAdaptedJournalRecord(operation, new JsonAdaptedPatient(patient), null, null, null, null);
+    }
+
+    public static JsonAdaptedJournalRecord of(Operation operation, Doctor doctor) {
+        return new JsonAdaptedJournalRecord(operation, null, new JsonAdaptedDoctor(doctor), null, null, null);
+    }
+
+    public static JsonAdaptedJournalRecord of(Operation operation, Activity activity) {
+        return new JsonAdaptedJournalRecord(operation, null, null, new JsonAdaptedActivity(activity), null, null);
+    }
+
+    public static JsonAdaptedJournalRecord of(UserProfile userProfile) {
+        return new JsonAdaptedJournalRecord(Operation.PUT, null, null, null,
+                new JsonAdaptedUserProfile(userProfile), null);
+    }
+
+    /**
+     * Returns a copy of this record with {@code generation} as its generation.
+     */
+    public JsonAdaptedJournalRecord withGeneration(long generation) {
+        return new JsonAdaptedJournalRecord(operation, patient, doctor, activity, userProfile, generation);
+    }
+
+    /**
+     * Returns true if this record was journaled before the snapshot of {@code snapshotGeneration} was written, so
+     * its change is already contained in that snapshot.
+     */
+    public boolean isBefore(long snapshotGeneration) {
+        return generation != null && generation < snapshotGeneration;
+    }
+
+    /**
+     * Applies this record to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the record is malformed or the item in it violates any data constraints.
+     */
+    public void applyTo(JournaledAddressBook addressBook) throws IllegalValueException {
+        int itemCount = (patient == null ? 0 : 1) + (doctor == null ? 0 : 1)
+                + (activity == null ? 0 : 1) + (userProfile == null ? 0 : 1);
+        if (operation == null || itemCount != 1 || (userProfile != null && operation != Operation.PUT)) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+
+        if (userProfile != null) {
+            addressBook.setUserProfile(userProfile.toModelType());
+        } else if (patient != null) {
+            addressBook.apply(operation, patient.toModelType());
+        } else if (doctor != null) {
+            addressBook.apply(operation, doctor.toModelType());
+        } else {
+            addressBook.apply(operation, activity.toModelType());
+        }
+    }
+}
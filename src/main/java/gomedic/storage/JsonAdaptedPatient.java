@@ -82,15 +82,22 @@ public class JsonAdaptedPatient {
      * @throws IllegalValueException if there were any data constraints violated in the adapted patient.
      */
     public Patient toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but skips the field checks of this adapter if {@code isTrusted} is true.
+     */
+    public Patient toModelType(boolean isTrusted) throws IllegalValueException {
         final List<Tag> patientMedicalConditions = new ArrayList<>();
         for (JsonAdaptedTag tag : medicalConditions) {
-            patientMedicalConditions.add(tag.toModelType());
+            patientMedicalConditions.add(tag.toModelType(isTrusted));
         }
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        if (!isTrusted && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
         final Name modelName = new Name(name);
@@ -98,7 +105,7 @@ public class JsonAdaptedPatient {
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
+        if (!isTrusted && !Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
         final Phone modelPhone = new Phone(phone);
@@ -107,7 +114,7 @@ public class JsonAdaptedPatient {
             throw new IllegalValueException(String.format(
                 MISSING_FIELD_MESSAGE_FORMAT, PatientId.class.getSimpleName()));
         }
-        if (!PatientId.isValidPatientId(id)) {
+        if (!isTrusted && !PatientId.isValidPatientId(id)) {
             throw new IllegalValueException(PatientId.MESSAGE_CONSTRAINTS);
         }
         final PatientId modelId = new PatientId(id);
@@ -117,7 +124,7 @@ public class JsonAdaptedPatient {
                 Age.class.getSimpleName()));
         }
 
-        if (!Age.isValidAge(age)) {
+        if (!isTrusted && !Age.isValidAge(age)) {
             throw new IllegalValueException(Age.MESSAGE_CONSTRAINTS);
         }
         final Age modelAge = new Age(age);
@@ -127,7 +134,7 @@ public class JsonAdaptedPatient {
                 BloodType.class.getSimpleName()));
         }
 
-        if (!BloodType.isValidBloodType(bloodtype)) {
+        if (!isTrusted && !BloodType.isValidBloodType(bloodtype)) {
             throw new IllegalValueException(BloodType.MESSAGE_CONSTRAINTS);
         }
         final BloodType modelBloodType = new BloodType(bloodtype);
@@ -137,7 +144,7 @@ public class JsonAdaptedPatient {
                 Gender.class.getSimpleName()));
         }
 
-        if (!Gender.isValidGender(gender)) {
+        if (!isTrusted && !Gender.isValidGender(gender)) {
             throw new IllegalValueException(Gender.MESSAGE_CONSTRAINTS);
         }
         final Gender modelGender = new Gender(gender);
@@ -147,7 +154,7 @@ public class JsonAdaptedPatient {
                 Height.class.getSimpleName()));
         }
 
-        if (!Height.isValidHeight(height)) {
+        if (!isTrusted && !Height.isValidHeight(height)) {
             throw new IllegalValueException(Height.MESSAGE_CONSTRAINTS);
         }
         final Height modelHeight = new Height(height);
@@ -157,7 +164,7 @@ public class JsonAdaptedPatient {
                 Weight.class.getSimpleName()));
         }
 
-        if (!Weight.isValidWeight(weight)) {
+        if (!isTrusted && !Weight.isValidWeight(weight)) {
             throw new IllegalValueException(Weight.MESSAGE_CONSTRAINTS);
         }
         final Weight modelWeight = new Weight(weight);
@@ -3,6 +3,7 @@ package gomedic.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -16,15 +17,34 @@ import gomedic.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Data files in the binary snapshot format are read as well, so that they are converted on the next save.
+ * <p>
+ * Each save also records the schema version and the checksum of the json file in a small file next to it.
+ * A data file that still matches them was written by GoMedic and has not been edited since, so it is loaded
+ * without validating every value twice and without looking for duplicate and conflicting activities.
+ * <p>
+ * The data file is replaced atomically on each save, and its previous version is kept as a backup to fall back on.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String CHECKSUM_FILE_EXTENSION = ".checksum";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private final Path dataRootFilePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path dataRootFilePath) {
+        this(dataRootFilePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes json without any whitespace if {@code isCompact} is true,
+     * or pretty printed json otherwise.
+     */
+    public JsonAddressBookStorage(Path dataRootFilePath, boolean isCompact) {
         this.dataRootFilePath = dataRootFilePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookDataFilePath() {
@@ -38,13 +58,56 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is read as a binary snapshot if it is one. If the file is damaged, the backup of its previous
+     * version is read instead. If the file has been split into shards by a {@code ShardedAddressBookStorage},
+     * the shards are read instead.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if neither the file nor its backup is in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        return readSnapshot(filePath).map(snapshot -> snapshot.addressBook);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, along with the journal generation the file was saved with by
+     * {@link #saveAddressBook(ReadOnlyAddressBook, Path, long)}.
+     */
+    Optional<Snapshot> readSnapshot(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        Path shardFolder = ShardedAddressBookStorage.getShardFolderPath(filePath);
+        if (!FileUtil.isFileExists(filePath) && Files.isDirectory(shardFolder)) {
+            logger.info("Data file " + filePath + " not found, reading the shards in " + shardFolder + " instead");
+            try {
+                return new ShardedAddressBookStorage(filePath).readAddressBook(filePath)
+                        .map(addressBook -> new Snapshot(addressBook, 0));
+            } catch (IOException ioe) {
+                throw new DataConversionException(ioe);
+            }
+        }
+
+        try {
+            return readDataFile(filePath);
+        } catch (DataConversionException dce) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw dce;
+            }
+            logger.warning("Data file " + filePath + " is damaged, reading its backup " + backupFilePath + " instead");
+            return readDataFile(backupFilePath);
+        }
+    }
+
+    private Optional<Snapshot> readDataFile(Path filePath) throws DataConversionException {
+        try {
+            if (FileUtil.isFileExists(filePath) && BinarySerializableAddressBook.isBinaryFile(filePath)) {
+                return Optional.of(new Snapshot(BinaryAddressBookStorage.readBinaryFile(filePath), 0));
+            }
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (jsonAddressBook.isEmpty()) {
@@ -52,13 +115,47 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+            return Optional.of(new Snapshot(jsonAddressBook.get().toModelType(isTrusted(filePath)),
+                    jsonAddressBook.get().getJournalGeneration()));
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
         }
     }
 
+    /**
+     * Returns the path of the checksum kept next to the data file at {@code filePath}.
+     */
+    public static Path getChecksumFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} matches the schema version and checksum saved with it.
+     */
+    private static boolean isTrusted(Path filePath) {
+        Path checksumFilePath = getChecksumFilePath(filePath);
+        if (!FileUtil.isFileExists(checksumFilePath)) {
+            return false;
+        }
+
+        try {
+            String expected = FileUtil.readFromFile(checksumFilePath).trim();
+            boolean isTrusted = expected.equals(getChecksumRecord(filePath));
+            if (!isTrusted) {
+                logger.info("Data file " + filePath + " was changed outside of GoMedic, validating all of it");
+            }
+            return isTrusted;
+        } catch (IOException ioe) {
+            logger.warning("Unable to check the checksum of " + filePath + ": " + ioe);
+            return false;
+        }
+    }
+
+    private static String getChecksumRecord(Path filePath) throws IOException {
+        return JsonSerializableAddressBook.SCHEMA_VERSION + " " + Long.toHexString(FileUtil.getChecksum(filePath));
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, dataRootFilePath);
@@ -72,8 +169,44 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
+        saveDataFile(new JsonSerializableAddressBook(addressBook), filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, saving the file as a snapshot that contains
+     * the journal records up to {@code journalGeneration}.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, long journalGeneration) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        saveDataFile(new JsonSerializableAddressBook(addressBook, journalGeneration), filePath);
+    }
+
+    private void saveDataFile(JsonSerializableAddressBook jsonAddressBook, Path filePath) throws IOException {
+        // the old checksum goes first, so that it never vouches for the new content before it is written
+        Files.deleteIfExists(getChecksumFilePath(filePath));
+        FileUtil.backUpFile(filePath);
+        JsonUtil.saveJsonFile(jsonAddressBook, filePath, isCompact);
+        saveChecksum(filePath);
+    }
+
+    /**
+     * Records the schema version and the checksum of the data file at {@code filePath} next to it.
+     */
+    static void saveChecksum(Path filePath) throws IOException {
+        FileUtil.writeToFile(getChecksumFilePath(filePath), getChecksumRecord(filePath));
+    }
+
+    /**
+     * An address book read from a data file, with the journal generation the file was saved with.
+     */
+    static class Snapshot {
+        final ReadOnlyAddressBook addressBook;
+        final long journalGeneration;
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Snapshot(ReadOnlyAddressBook addressBook, long journalGeneration) {
+            this.addressBook = addressBook;
+            this.journalGeneration = journalGeneration;
+        }
     }
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -12,8 +13,9 @@ import gomedic.commons.exceptions.IllegalValueException;
 import gomedic.model.AddressBook;
 import gomedic.model.ReadOnlyAddressBook;
 import gomedic.model.activity.Activity;
-import gomedic.model.person.doctor.Doctor;
-import gomedic.model.person.patient.Patient;
+import gomedic.model.activity.exceptions.ConflictingActivityException;
+import gomedic.model.activity.exceptions.DuplicateActivityFoundException;
+import gomedic.model.person.exceptions.DuplicatePersonException;
 import gomedic.model.util.SampleDataUtil;
 
 /**
@@ -23,13 +25,23 @@ import gomedic.model.util.SampleDataUtil;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_ACTIVITY = "Activities list contains duplicate activities(s).";
+    public static final String MESSAGE_CONFLICTING_ACTIVITY = "Activities list contains conflicting activities.";
     public static final String MESSAGE_DUPLICATE_DOCTOR = "Doctors list contains duplicate doctors(s).";
     public static final String MESSAGE_DUPLICATE_PATIENT = "Patients list contains duplicate patients(s).";
 
+    /**
+     * The version of the json format of the address book, which has to be increased whenever the format changes
+     * so that files written in an older format are always fully validated.
+     */
+    public static final int SCHEMA_VERSION = 1;
+
     private final JsonAdaptedUserProfile userProfile;
     private final List<JsonAdaptedActivity> activities = new ArrayList<>();
     private final List<JsonAdaptedDoctor> doctors = new ArrayList<>();
     private final List<JsonAdaptedPatient> patients = new ArrayList<>();
+    // the generation of the journal records already contained in a snapshot of JournalAddressBookStorage
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalGeneration;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given activities, doctors and patients and user profile
@@ -38,11 +50,13 @@ class JsonSerializableAddressBook {
     public JsonSerializableAddressBook(@JsonProperty("userProfile") JsonAdaptedUserProfile userProfile,
                                        @JsonProperty("activities") List<JsonAdaptedActivity> activities,
                                        @JsonProperty("doctors") List<JsonAdaptedDoctor> doctors,
-                                       @JsonProperty("patients") List<JsonAdaptedPatient> patients) {
+                                       @JsonProperty("patients") List<JsonAdaptedPatient> patients,
+                                       @JsonProperty("journalGeneration") Long journalGeneration) {
         this.userProfile = userProfile;
         this.activities.addAll(activities);
         this.doctors.addAll(doctors);
         this.patients.addAll(patients);
+        this.journalGeneration = journalGeneration;
     }
 
     /**
@@ -51,6 +65,15 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, as a snapshot containing the
+     * journal records up to {@code journalGeneration}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, Long journalGeneration) {
+        this.journalGeneration = journalGeneration;
         this.userProfile = new JsonAdaptedUserProfile(source.getUserProfile());
         activities.addAll(source
                 .getActivityListSortedById()
@@ -66,12 +89,30 @@ class JsonSerializableAddressBook {
                 .map(JsonAdaptedPatient::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the generation of the journal records contained in this snapshot, or 0 if it was not saved as one.
+     */
+    public long getJournalGeneration() {
+        return journalGeneration == null ? 0 : journalGeneration;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}.
+     * If {@code isTrusted} is true, the data is known to have been written by GoMedic itself, so the adapters skip
+     * their own checks of the field values and the activities are not checked for duplicates and conflicts.
+     * The constructors of the model still check every field value, and throw an {@code IllegalArgumentException}
+     * instead of an {@code IllegalValueException} for a value that violates the data constraints.
+     */
+    public AddressBook toModelType(boolean isTrusted) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
 
         // If there is no user profile detected, load the sample data instead
@@ -81,31 +122,32 @@ class JsonSerializableAddressBook {
             addressBook.setUserProfile(userProfile.toModelType());
         }
 
-
-
-        for (JsonAdaptedDoctor jsonAdaptedDoctor: doctors) {
-            Doctor doctor = jsonAdaptedDoctor.toModelType();
-            if (addressBook.hasDoctor(doctor)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_DOCTOR);
-            }
-            addressBook.addDoctor(doctor);
+        // converts every list on all cores, then validates each of them in a single pass
+        try {
+            addressBook.setDoctors(ParallelConversion.convertAll(doctors, doctor -> doctor.toModelType(isTrusted)));
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_DOCTOR);
         }
 
-        for (JsonAdaptedPatient jsonAdaptedPatient: patients) {
-            Patient patient = jsonAdaptedPatient.toModelType();
-            if (addressBook.hasPatient(patient)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
-            }
-            addressBook.addPatient(patient);
+        try {
+            addressBook.setPatients(ParallelConversion.convertAll(patients, patient -> patient.toModelType(isTrusted)));
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
         }
 
-        for (JsonAdaptedActivity jsonAdaptedActivity : activities) {
-            Activity activity = jsonAdaptedActivity.toModelType();
+        List<Activity> modelActivities = ParallelConversion.convertAll(
+                activities, activity -> activity.toModelType(isTrusted));
+        if (isTrusted) {
+            addressBook.setCheckedActivities(modelActivities);
+            return addressBook;
+        }
 
-            if (addressBook.hasActivity(activity)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ACTIVITY);
-            }
-            addressBook.addActivity(activity);
+        try {
+            addressBook.setActivities(modelActivities);
+        } catch (DuplicateActivityFoundException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ACTIVITY + " " + e.getMessage());
+        } catch (ConflictingActivityException e) {
+            throw new IllegalValueException(MESSAGE_CONFLICTING_ACTIVITY + " " + e.getMessage());
         }
 
         return addressBook;
@@ -0,0 +1,86 @@
+package gomedic.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import gomedic.commons.exceptions.IllegalValueException;
+import gomedic.model.activity.Activity;
+import gomedic.model.person.doctor.Doctor;
+import gomedic.model.person.patient.Patient;
+
+/**
+ * An Immutable part of an AddressBook that is serializable to JSON format.
+ * Each shard holds the patients, the doctors or the activities of a single year, and leaves out the other lists.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonSerializableShard {
+
+    private final List<JsonAdaptedPatient> patients = new ArrayList<>();
+    private final List<JsonAdaptedDoctor> doctors = new ArrayList<>();
+    private final List<JsonAdaptedActivity> activities = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given patients, doctors and activities.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("patients") List<JsonAdaptedPatient> patients,
+                                 @JsonProperty("doctors") List<JsonAdaptedDoctor> doctors,
+                                 @JsonProperty("activities") List<JsonAdaptedActivity> activities) {
+        if (patients != null) {
+            this.patients.addAll(patients);
+        }
+        if (doctors != null) {
+            this.doctors.addAll(doctors);
+        }
+        if (activities != null) {
+            this.activities.addAll(activities);
+        }
+    }
+
+    public static JsonSerializableShard ofPatients(List<Patient> patients) {
+        return new JsonSerializableShard(
+                patients.stream().map(JsonAdaptedPatient::new).collect(Collectors.toList()), null, null);
+    }
+
+    public static JsonSerializableShard ofDoctors(List<Doctor> doctors) {
+        return new JsonSerializableShard(
+                null, doctors.stream().map(JsonAdaptedDoctor::new).collect(Collectors.toList()), null);
+    }
+
+    public static JsonSerializableShard ofActivities(List<Activity> activities) {
+        return new JsonSerializableShard(
+                null, null, activities.stream().map(JsonAdaptedActivity::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts the patients in this shard into the model's {@code Patient} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Patient> toPatients() throws IllegalValueException {
+        return ParallelConversion.convertAll(patients, JsonAdaptedPatient::toModelType);
+    }
+
+    /**
+     * Converts the doctors in this shard into the model's {@code Doctor} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Doctor> toDoctors() throws IllegalValueException {
+        return ParallelConversion.convertAll(doctors, JsonAdaptedDoctor::toModelType);
+    }
+
+    /**
+     * Converts the activities in this shard into the model's {@code Activity} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Activity> toActivities() throws IllegalValueException {
+        return ParallelConversion.convertAll(activities, JsonAdaptedActivity::toModelType);
+    }
+}
@@ -0,0 +1,124 @@
+package gomedic.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+import gomedic.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts lists of json adapted objects into the model's objects on the common fork join pool.
+ * A list is split in halves until each part holds at most {@code SEQUENTIAL_THRESHOLD} entries, which are then
+ * converted one by one, so that a large address book is converted on all cores while a small one is not slowed
+ * down by the hand-off between threads.
+ */
+class ParallelConversion {
+
+    static final int SEQUENTIAL_THRESHOLD = 512;
+
+    private ParallelConversion() {
+    } // prevents instantiation
+
+    /**
+     * Converts one json adapted object into a model object.
+     */
+    @FunctionalInterface
+    interface Converter<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the model objects converted from {@code adaptedList}, in the same order.
+     *
+     * @throws IllegalValueException if any of the objects violates the data constraints. If several of them do,
+     *     the exception of the first one in the list is thrown.
+     */
+    static <A, M> List<M> convertAll(List<A> adaptedList, Converter<A, M> converter) throws IllegalValueException {
+        if (adaptedList.size() <= SEQUENTIAL_THRESHOLD) {
+            List<M> converted = new ArrayList<>(adaptedList.size());
+            for (A adapted : adaptedList) {
+                converted.add(converter.convert(adapted));
+            }
+            return converted;
+        }
+
+        Object[] converted = new Object[adaptedList.size()];
+        AtomicReference<Failure> failure = new AtomicReference<>();
+        ForkJoinPool.commonPool().invoke(
+                new ConversionTask<>(adaptedList, converter, converted, failure, 0, adaptedList.size()));
+        if (failure.get() != null) {
+            throw failure.get().exception;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<M> convertedList = (List<M>) Arrays.asList(converted);
+        return new ArrayList<>(convertedList);
+    }
+
+    /**
+     * The failure to convert the entry at {@code index} of a list.
+     */
+    private static class Failure {
+        private final int index;
+        private final IllegalValueException exception;
+
+        Failure(int index, IllegalValueException exception) {
+            this.index = index;
+            this.exception = exception;
+        }
+    }
+
+    /**
+     * Converts the entries in {@code [from, to)} of a list into the same positions of an array.
+     * Failures are recorded instead of thrown, keeping the one with the lowest index whichever thread finds it
+     * first. A failure stops the conversion of the entries after it, which cannot replace it.
+     */
+    // the tasks are never serialized
+    @SuppressWarnings("serial")
+    private static class ConversionTask<A, M> extends RecursiveAction {
+        private final List<A> adaptedList;
+        private final Converter<A, M> converter;
+        private final Object[] converted;
+        private final AtomicReference<Failure> failure;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<A> adaptedList, Converter<A, M> converter, Object[] converted,
+                       AtomicReference<Failure> failure, int from, int to) {
+            this.adaptedList = adaptedList;
+            this.converter = converter;
+            this.converted = converted;
+            this.failure = failure;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConversionTask<>(adaptedList, converter, converted, failure, from, middle),
+                        new ConversionTask<>(adaptedList, converter, converted, failure, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to && isBeforeFailure(i); i++) {
+                try {
+                    converted[i] = converter.convert(adaptedList.get(i));
+                } catch (IllegalValueException ive) {
+                    Failure newFailure = new Failure(i, ive);
+                    failure.accumulateAndGet(newFailure, (current, candidate) ->
+                            current == null || candidate.index < current.index ? candidate : current);
+                }
+            }
+        }
+
+        private boolean isBeforeFailure(int index) {
+            Failure currentFailure = failure.get();
+            return currentFailure == null || index < currentFailure.index;
+        }
+    }
+}
@@ -0,0 +1,472 @@
+package gomedic.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import gomedic.commons.core.LogsCenter;
+import gomedic.commons.exceptions.DataConversionException;
+import gomedic.commons.exceptions.IllegalValueException;
+import gomedic.commons.util.FileUtil;
+import gomedic.commons.util.JsonUtil;
+import gomedic.model.AddressBook;
+import gomedic.model.DataType;
+import gomedic.model.ReadOnlyAddressBook;
+import gomedic.model.activity.Activity;
+import gomedic.model.activity.exceptions.ConflictingActivityException;
+import gomedic.model.activity.exceptions.DuplicateActivityFoundException;
+import gomedic.model.person.doctor.Doctor;
+import gomedic.model.person.exceptions.DuplicatePersonException;
+import gomedic.model.person.patient.Patient;
+import gomedic.model.userprofile.UserProfile;
+import gomedic.model.util.SampleDataUtil;
+
+/**
+ * A class to access AddressBook data stored as separate json shards on the hard disk.
+ * <p>
+ * The shards of the data file {@code data/addressbook.json} are kept in the folder {@code data/addressbook/}:
+ * {@code profile.json}, {@code doctors.json}, {@code patients.json} and one {@code activities/<year>.json}
+ * for the activities starting in each year. The shards are read in parallel, and a save only rewrites the shards
+ * whose content changed since the last read or save, so editing a doctor does not rewrite any patient or activity.
+ * <p>
+ * The shards changed by a save are first written next to the ones they replace, and only moved into place once a
+ * commit file listing them has been written. A save interrupted before the commit file is written is discarded, and
+ * one interrupted after it is completed by the next read or save, so the shards always hold the data of one save.
+ * <p>
+ * A data file in the single file format is read instead of the shards whenever it exists, as it is then newer than
+ * them, and it is renamed out of the way once it has been split by a save. This way the data is never read back
+ * from a data file left behind by an earlier split.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String PROFILE_FILE_NAME = "profile.json";
+    public static final String DOCTORS_FILE_NAME = "doctors.json";
+    public static final String PATIENTS_FILE_NAME = "patients.json";
+    public static final String ACTIVITIES_FOLDER_NAME = "activities";
+    public static final String SHARD_FILE_EXTENSION = ".json";
+    public static final String PENDING_FILE_EXTENSION = ".pending";
+    public static final String COMMIT_FILE_NAME = "commit.txt";
+    public static final String SPLIT_FILE_EXTENSION = ".split";
+
+    // the operations recorded in the commit file, followed by the path of a shard relative to the shard folder
+    private static final String COMMIT_WRITE = "WRITE ";
+    private static final String COMMIT_DELETE = "DELETE ";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path dataRootFilePath;
+    private final boolean isCompact;
+    private final ExecutorService readExecutor;
+
+    // the content of the shards at dataRootFilePath, null until they are first read or saved
+    private Shards savedShards;
+
+    public ShardedAddressBookStorage(Path dataRootFilePath) {
+        this(dataRootFilePath, false);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that writes json without any whitespace if {@code isCompact} is
+     * true, and reads the shards on the common fork join pool.
+     */
+    public ShardedAddressBookStorage(Path dataRootFilePath, boolean isCompact) {
+        requireNonNull(dataRootFilePath);
+        this.dataRootFilePath = dataRootFilePath;
+        this.isCompact = isCompact;
+        this.readExecutor = ForkJoinPool.commonPool();
+    }
+
+    @Override
+    public Path getAddressBookDataFilePath() {
+        return dataRootFilePath;
+    }
+
+    /**
+     * Returns the folder holding the shards of the data file at {@code filePath},
+     * which is named after the data file without its extension.
+     */
+    public static Path getShardFolderPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String folderName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName + "-shards";
+        return filePath.resolveSibling(folderName);
+    }
+
+    private static Path getActivitiesShardPath(Path shardFolder, int year) {
+        return shardFolder.resolve(ACTIVITIES_FOLDER_NAME).resolve(year + SHARD_FILE_EXTENSION);
+    }
+
+    private static Path getPendingShardPath(Path shardPath) {
+        return shardPath.resolveSibling(shardPath.getFileName() + PENDING_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path the data file at {@code filePath} is renamed to once it has been split into shards.
+     */
+    public static Path getSplitFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SPLIT_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(dataRootFilePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The data file itself is read if it exists or if there are no shards next to it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if any shard is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path shardFolder = getShardFolderPath(filePath);
+        if (FileUtil.isFileExists(filePath) || !Files.isDirectory(shardFolder)) {
+            logger.info("Reading the data file " + filePath + " instead of the shards in " + shardFolder);
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        recoverShards(shardFolder);
+
+        Future<Optional<JsonAdaptedUserProfile>> profile = readExecutor.submit(() ->
+                JsonUtil.readJsonFile(shardFolder.resolve(PROFILE_FILE_NAME), JsonAdaptedUserProfile.class));
+        Future<List<Doctor>> doctors = readExecutor.submit(() ->
+                readShard(shardFolder.resolve(DOCTORS_FILE_NAME)).toDoctors());
+        Future<List<Patient>> patients = readExecutor.submit(() ->
+                readShard(shardFolder.resolve(PATIENTS_FILE_NAME)).toPatients());
+        SortedMap<Integer, Future<List<Activity>>> activitiesByYear = new TreeMap<>();
+        for (Map.Entry<Integer, Path> yearShard : listActivitiesShards(shardFolder).entrySet()) {
+            activitiesByYear.put(yearShard.getKey(), readExecutor.submit(() ->
+                    readShard(yearShard.getValue()).toActivities()));
+        }
+
+        Shards shards = new Shards();
+        try {
+            Optional<JsonAdaptedUserProfile> jsonProfile = getResult(profile);
+            shards.userProfile = jsonProfile.isPresent()
+                    ? jsonProfile.get().toModelType()
+                    : SampleDataUtil.getSampleUserProfile();
+            shards.doctors = getResult(doctors);
+            shards.patients = getResult(patients);
+            for (Map.Entry<Integer, Future<List<Activity>>> yearShard : activitiesByYear.entrySet()) {
+                shards.activitiesByYear.put(yearShard.getKey(), getResult(yearShard.getValue()));
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardFolder + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        AddressBook addressBook = shards.toModelType();
+        if (filePath.equals(dataRootFilePath)) {
+            savedShards = shards;
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static JsonSerializableShard readShard(Path shardPath) throws DataConversionException {
+        return JsonUtil.readJsonFile(shardPath, JsonSerializableShard.class)
+                .orElseGet(() -> new JsonSerializableShard(null, null, null));
+    }
+
+    /**
+     * Returns the activities shards in {@code shardFolder} by year, ignoring any file not named after a year.
+     */
+    private static SortedMap<Integer, Path> listActivitiesShards(Path shardFolder) throws IOException {
+        SortedMap<Integer, Path> yearShards = new TreeMap<>();
+        Path activitiesFolder = shardFolder.resolve(ACTIVITIES_FOLDER_NAME);
+        if (!Files.isDirectory(activitiesFolder)) {
+            return yearShards;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(activitiesFolder, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String year = fileName.substring(0, fileName.length() - SHARD_FILE_EXTENSION.length());
+                try {
+                    yearShards.put(Integer.parseInt(year), file);
+                } catch (NumberFormatException nfe) {
+                    logger.warning("Ignoring unexpected file in " + activitiesFolder + ": " + fileName);
+                }
+            }
+        }
+        return yearShards;
+    }
+
+    /**
+     * Waits for {@code future} and rethrows the exception of a failed read as it is.
+     */
+    private static <T> T getResult(Future<T> future)
+            throws DataConversionException, IllegalValueException, IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the address book", ie);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            // the fork join pool wraps the checked exceptions of a task in a plain RuntimeException,
+            // which it wraps once more when the task failed on another thread
+            while (cause.getClass() == RuntimeException.class && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, dataRootFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards that changed since the last read or save are written when saving to the data file of this
+     * storage, otherwise all of them are.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isDataRoot = filePath.equals(dataRootFilePath);
+        Shards previous = isDataRoot ? savedShards : null;
+        Set<DataType> modifiedDataTypes = previous == null
+                ? EnumSet.allOf(DataType.class)
+                : addressBook.getModifiedDataTypes();
+        Shards current = new Shards(addressBook);
+        Path shardFolder = getShardFolderPath(filePath);
+        List<Path> writtenShards = new ArrayList<>();
+        List<Path> deletedShards = new ArrayList<>();
+
+        try {
+            recoverShards(shardFolder);
+            if (modifiedDataTypes.contains(DataType.USER_PROFILE)
+                    && (previous == null || !previous.userProfile.equals(current.userProfile))) {
+                writeShard(new JsonAdaptedUserProfile(current.userProfile), shardFolder.resolve(PROFILE_FILE_NAME),
+                        writtenShards);
+            }
+            if (modifiedDataTypes.contains(DataType.DOCTORS)
+                    && (previous == null || !isSameContent(previous.doctors, current.doctors))) {
+                writeShard(JsonSerializableShard.ofDoctors(current.doctors), shardFolder.resolve(DOCTORS_FILE_NAME),
+                        writtenShards);
+            }
+            if (modifiedDataTypes.contains(DataType.PATIENTS)
+                    && (previous == null || !isSameContent(previous.patients, current.patients))) {
+                writeShard(JsonSerializableShard.ofPatients(current.patients),
+                        shardFolder.resolve(PATIENTS_FILE_NAME), writtenShards);
+            }
+            if (modifiedDataTypes.contains(DataType.ACTIVITIES)) {
+                writeActivitiesShards(previous, current, shardFolder, writtenShards, deletedShards);
+            }
+            commitShards(shardFolder, writtenShards, deletedShards);
+        } catch (IOException ioe) {
+            // some shards may not match savedShards anymore, so the next save has to write all of them
+            if (isDataRoot) {
+                savedShards = null;
+            }
+            throw ioe;
+        }
+
+        if (isDataRoot) {
+            savedShards = current;
+        }
+
+        if (FileUtil.isFileExists(filePath)) {
+            logger.info("Data file " + filePath + " has been split into shards, renaming it");
+            FileUtil.moveAtomically(filePath, getSplitFilePath(filePath));
+        }
+    }
+
+    private void writeActivitiesShards(Shards previous, Shards current, Path shardFolder, List<Path> writtenShards,
+                                       List<Path> deletedShards) throws IOException {
+        for (Map.Entry<Integer, List<Activity>> yearShard : current.activitiesByYear.entrySet()) {
+            List<Activity> previousActivities = previous == null
+                    ? null
+                    : previous.activitiesByYear.get(yearShard.getKey());
+            if (previousActivities == null || !isSameContent(previousActivities, yearShard.getValue())) {
+                writeShard(JsonSerializableShard.ofActivities(yearShard.getValue()),
+                        getActivitiesShardPath(shardFolder, yearShard.getKey()), writtenShards);
+            }
+        }
+
+        // years without any activity left do not keep a shard
+        Set<Integer> staleYears = previous == null
+                ? listActivitiesShards(shardFolder).keySet()
+                : previous.activitiesByYear.keySet();
+        for (Integer year : staleYears) {
+            if (!current.activitiesByYear.containsKey(year)) {
+                deletedShards.add(getActivitiesShardPath(shardFolder, year));
+            }
+        }
+    }
+
+    /**
+     * Writes {@code shard} next to the shard at {@code shardPath}, to be moved into place by the commit of the save.
+     */
+    private void writeShard(Object shard, Path shardPath, List<Path> writtenShards) throws IOException {
+        logger.fine("Writing shard: " + shardPath);
+        JsonUtil.saveJsonFile(shard, getPendingShardPath(shardPath), isCompact);
+        writtenShards.add(shardPath);
+    }
+
+    /**
+     * Records the shards written and deleted by a save in the commit file of {@code shardFolder}, which makes the
+     * save take effect, then carries it out.
+     */
+    private static void commitShards(Path shardFolder, List<Path> writtenShards, List<Path> deletedShards)
+            throws IOException {
+        if (writtenShards.isEmpty() && deletedShards.isEmpty()) {
+            return;
+        }
+
+        StringBuilder commit = new StringBuilder();
+        for (Path shardPath : writtenShards) {
+            commit.append(COMMIT_WRITE).append(shardFolder.relativize(shardPath)).append(System.lineSeparator());
+        }
+        for (Path shardPath : deletedShards) {
+            commit.append(COMMIT_DELETE).append(shardFolder.relativize(shardPath)).append(System.lineSeparator());
+        }
+        FileUtil.writeToFile(shardFolder.resolve(COMMIT_FILE_NAME), commit.toString());
+        recoverShards(shardFolder);
+    }
+
+    /**
+     * Completes the save recorded in the commit file of {@code shardFolder}, if any, and discards the shards
+     * written by a save that was interrupted before it was committed.
+     * Completing a save again after it was interrupted part way is harmless.
+     */
+    private static void recoverShards(Path shardFolder) throws IOException {
+        Path commitFile = shardFolder.resolve(COMMIT_FILE_NAME);
+        if (FileUtil.isFileExists(commitFile)) {
+            for (String line : Files.readAllLines(commitFile)) {
+                if (line.startsWith(COMMIT_WRITE)) {
+                    Path shardPath = shardFolder.resolve(line.substring(COMMIT_WRITE.length()));
+                    Path pendingShardPath = getPendingShardPath(shardPath);
+                    if (FileUtil.isFileExists(pendingShardPath)) {
+                        FileUtil.moveAtomically(pendingShardPath, shardPath);
+                    }
+                } else if (line.startsWith(COMMIT_DELETE)) {
+                    Files.deleteIfExists(shardFolder.resolve(line.substring(COMMIT_DELETE.length())));
+                }
+            }
+            Files.delete(commitFile);
+        }
+
+        for (Path folder : List.of(shardFolder, shardFolder.resolve(ACTIVITIES_FOLDER_NAME))) {
+            if (!Files.isDirectory(folder)) {
+                continue;
+            }
+            try (DirectoryStream<Path> pendingShards =
+                         Files.newDirectoryStream(folder, "*" + PENDING_FILE_EXTENSION)) {
+                for (Path pendingShard : pendingShards) {
+                    logger.warning("Discarding the shard of an interrupted save: " + pendingShard);
+                    Files.delete(pendingShard);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if both lists hold the same objects in the same order.
+     * Patients, doctors and activities are immutable, so an edited entry is always a different object.
+     */
+    private static boolean isSameContent(List<?> previous, List<?> current) {
+        if (previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            if (previous.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The content of the shards of an address book.
+     */
+    private static class Shards {
+        private UserProfile userProfile;
+        private List<Doctor> doctors = Collections.emptyList();
+        private List<Patient> patients = Collections.emptyList();
+        private final SortedMap<Integer, List<Activity>> activitiesByYear = new TreeMap<>();
+
+        Shards() {}
+
+        Shards(ReadOnlyAddressBook addressBook) {
+            userProfile = addressBook.getUserProfile().copy();
+            doctors = new ArrayList<>(addressBook.getDoctorListSortedById());
+            patients = new ArrayList<>(addressBook.getPatientListSortedById());
+            for (Activity activity : addressBook.getActivityListSortedById()) {
+                activitiesByYear.computeIfAbsent(activity.getStartTime().time.getYear(), year -> new ArrayList<>())
+                        .add(activity);
+            }
+        }
+
+        /**
+         * Assembles the shards into the model's {@code AddressBook} object.
+         *
+         * @throws DataConversionException if the shards hold duplicate patients, doctors or activities.
+         */
+        AddressBook toModelType() throws DataConversionException {
+            List<Activity> activities = new ArrayList<>();
+            activitiesByYear.values().forEach(activities::addAll);
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setUserProfile(userProfile);
+            try {
+                addressBook.setDoctors(doctors);
+            } catch (DuplicatePersonException dpe) {
+                throw new DataConversionException(
+                        new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_DOCTOR));
+            }
+            try {
+                addressBook.setPatients(patients);
+            } catch (DuplicatePersonException dpe) {
+                throw new DataConversionException(
+                        new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT));
+            }
+            try {
+                addressBook.setActivities(activities);
+            } catch (DuplicateActivityFoundException e) {
+                throw new DataConversionException(new IllegalValueException(
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_ACTIVITY + " " + e.getMessage()));
+            } catch (ConflictingActivityException e) {
+                throw new DataConversionException(new IllegalValueException(
+                        JsonSerializableAddressBook.MESSAGE_CONFLICTING_ACTIVITY + " " + e.getMessage()));
+            }
+            return addressBook;
+        }
+    }
+}
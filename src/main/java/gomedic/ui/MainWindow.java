@@ -163,7 +163,7 @@ public class MainWindow extends UiPart<Stage> {
         activityTable = new ActivityTable(logic.getFilteredActivityListById());
         doctorTable = new DoctorTable(logic.getFilteredDoctorList());
         patientTable = new PatientTable(logic.getFilteredPatientList());
-        patientView = new PatientView(logic.getViewPatient(), logic.getFilteredActivityListByStartTime());
+        patientView = new PatientView(logic.getViewPatient(), logic::getPatientAppointments);
 
         // fill in the side window
         sideWindow = new SideWindow(logic.getModelBeingShown(), logic.getObservableUserProfile());
@@ -1,14 +1,16 @@
 package gomedic.ui.view;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import gomedic.commons.core.LogsCenter;
 import gomedic.model.activity.Activity;
 import gomedic.model.person.patient.Patient;
+import gomedic.model.person.patient.PatientId;
 import gomedic.ui.UiPart;
 import javafx.beans.value.ObservableValue;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -55,10 +57,10 @@ public class PatientView extends UiPart<Region> {
     private FlowPane appointments;
 
     /**
-     * Creates a {@code PatientCode} with the given {@code ObservableValue<Patient>} and
-     * {@code ObservableList<Activity>} to display.
+     * Creates a {@code PatientCode} with the given {@code ObservableValue<Patient>} to display, together with
+     * the appointments returned by {@code appointmentsOfPatient} for that patient.
      */
-    public PatientView(ObservableValue<Patient> object, ObservableList<Activity> activityList) {
+    public PatientView(ObservableValue<Patient> object, Function<PatientId, List<Activity>> appointmentsOfPatient) {
         super(FXML);
         patient = object.getValue();
         object.addListener((add, oldVal, newVal) -> {
@@ -90,8 +92,7 @@ public class PatientView extends UiPart<Region> {
             logger.info("Getting associated appointments");
 
             try {
-                activityList.stream()
-                        .filter(activity -> newVal.getId().equals(activity.getPatientId()))
+                appointmentsOfPatient.apply(newVal.getId())
                         .forEach(activity -> appointments
                                 .getChildren()
                                 .add(new Label("start : " + activity.getStartTime().toString() + "\nend  : "
@@ -1,13 +1,22 @@
 package gomedic.commons.util;
 
 import static gomedic.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,56 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void getChecksum() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        long checksum = FileUtil.getChecksum(file);
+
+        // same content -> same checksum
+        FileUtil.writeToFile(file, "content");
+        assertEquals(checksum, FileUtil.getChecksum(file));
+
+        // different content -> different checksum
+        FileUtil.writeToFile(file, "contents");
+        assertNotEquals(checksum, FileUtil.getChecksum(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_replacedWithoutTempFile() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeAtomically(file, output -> output.write("new content".getBytes()));
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(file.resolveSibling("file.txt" + FileUtil.TEMP_FILE_EXTENSION)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, output -> {
+            output.write("partial".getBytes());
+            throw new IOException("dummy exception");
+        }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(file.resolveSibling("file.txt" + FileUtil.TEMP_FILE_EXTENSION)));
+    }
+
+    @Test
+    public void backUpFile_fileRewritten_backupKeepsOldContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.backUpFile(file);
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.backUpFile(file);
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("old content", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+        assertEquals("new content", FileUtil.readFromFile(file));
+    }
+
 }
@@ -1,10 +1,12 @@
 package gomedic.commons.util;
 
 import static gomedic.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -126,6 +128,20 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for splitWordsIgnoreCase --------------------------------------
+
+    @Test
+    public void splitWordsIgnoreCase_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.splitWordsIgnoreCase(null));
+    }
+
+    @Test
+    public void splitWordsIgnoreCase() {
+        assertEquals(List.of(), StringUtil.splitWordsIgnoreCase(""));
+        assertEquals(List.of(), StringUtil.splitWordsIgnoreCase("   "));
+        assertEquals(List.of("aaa", "bbb"), StringUtil.splitWordsIgnoreCase("  AAA   bBb "));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,9 +1,15 @@
 package gomedic.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +25,7 @@ import gomedic.logic.commands.exceptions.CommandException;
 import gomedic.logic.commands.listcommand.ListActivityCommand;
 import gomedic.logic.commands.listcommand.ListDoctorCommand;
 import gomedic.logic.parser.exceptions.ParseException;
+import gomedic.model.DataType;
 import gomedic.model.Model;
 import gomedic.model.ModelItem;
 import gomedic.model.ModelManager;
@@ -28,6 +35,7 @@ import gomedic.model.activity.Activity;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.patient.Patient;
 import gomedic.model.util.SampleDataUtil;
+import gomedic.storage.AddressBookSaver;
 import gomedic.storage.JsonAddressBookStorage;
 import gomedic.storage.JsonUserPrefsStorage;
 import gomedic.storage.StorageManager;
@@ -242,6 +250,50 @@ public class LogicManagerTest {
         assertEquals(ModelItem.DOCTOR.ordinal(), logic.getModelBeingShown().getValue());
     }
 
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        assertCommandSuccess(ListDoctorCommand.COMMAND_WORD, ListDoctorCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_modifyingCommand_addressBookSavedAndMarkedAsSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        String addDoctorCommand = AddDoctorCommand.COMMAND_WORD
+                + CommandTestUtil.VALID_DESC_NAME_MAIN_DOCTOR
+                + CommandTestUtil.VALID_DESC_PHONE_MAIN_DOCTOR
+                + CommandTestUtil.VALID_DESC_DEPARTMENT_MAIN_DOCTOR;
+        logic.execute(addDoctorCommand);
+
+        assertTrue(Files.exists(addressBookFilePath));
+        assertTrue(model.getAddressBook().getModifiedDataTypes().isEmpty());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_addressBookKeptUnsavedAndFailureReportedByNextCommand() throws Exception {
+        List<Runnable> scheduledSaves = new ArrayList<>();
+        AddressBookSaver saver = new AddressBookSaver(
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json")),
+                scheduledSaves::add);
+        logic = new LogicManager(model, saver);
+        model.markAddressBookAsSaved();
+        String addDoctorCommand = AddDoctorCommand.COMMAND_WORD
+                + CommandTestUtil.VALID_DESC_NAME_MAIN_DOCTOR
+                + CommandTestUtil.VALID_DESC_PHONE_MAIN_DOCTOR
+                + CommandTestUtil.VALID_DESC_DEPARTMENT_MAIN_DOCTOR;
+
+        // the save is only written after the command returns
+        logic.execute(addDoctorCommand);
+        assertEquals(Set.of(DataType.DOCTORS), model.getAddressBook().getModifiedDataTypes());
+
+        scheduledSaves.remove(0).run();
+        CommandResult result = logic.execute(ListDoctorCommand.COMMAND_WORD);
+        assertEquals(ListDoctorCommand.MESSAGE_SUCCESS + "\n" + LogicManager.FILE_OPS_ERROR_MESSAGE,
+                result.getFeedbackToUser());
+        assertEquals(Set.of(DataType.DOCTORS), model.getAddressBook().getModifiedDataTypes());
+    }
+
     @Test
     void getUserProfile_defaultValue_testPassed() {
         assertEquals(SampleDataUtil.getSampleUserProfile(), logic.getUserProfile());
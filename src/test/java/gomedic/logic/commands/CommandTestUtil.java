@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import gomedic.commons.core.GuiSettings;
@@ -25,6 +26,8 @@ import gomedic.model.ReadOnlyAddressBook;
 import gomedic.model.ReadOnlyUserPrefs;
 import gomedic.model.activity.Activity;
 import gomedic.model.activity.ActivityId;
+import gomedic.model.commonfield.Id;
+import gomedic.model.commonfield.Time;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.doctor.DoctorId;
 import gomedic.model.person.patient.Patient;
@@ -113,9 +116,12 @@ public class CommandTestUtil {
     public static final String VALID_PERIOD_FLAG_ALL = " " + CliSyntax.PREFIX_PERIOD_FLAG + "ALL";
     public static final String VALID_SORT_FLAG_START = " " + CliSyntax.PREFIX_SORT_FLAG + "START";
     public static final String VALID_SORT_FLAG_ID = " " + CliSyntax.PREFIX_SORT_FLAG + "ID";
+    public static final String VALID_PERIOD_START = " " + CliSyntax.PREFIX_PERIOD_START + "15/09/2022 13:00";
+    public static final String VALID_PERIOD_END = " " + CliSyntax.PREFIX_PERIOD_END + "16/09/2022 13:00";
 
     public static final String INVALID_PERIOD_FLAG = " " + CliSyntax.PREFIX_PERIOD_FLAG + "TOMORROW";
     public static final String INVALID_SORT_FLAG = " " + CliSyntax.PREFIX_SORT_FLAG + "end time";
+    public static final String INVALID_PERIOD_START = " " + CliSyntax.PREFIX_PERIOD_START + "16/09/2022 13:01";
 
     /* valid constants declarations for activity related fields */
     public static final String VALID_DESC_TITLE_MEETING =
@@ -408,6 +414,11 @@ public class CommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Activity> getActivityById(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteActivity(Activity target) {
             throw new AssertionError("This method should not be called.");
@@ -418,6 +429,11 @@ public class CommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Activity> getPatientAppointments(PatientId patientId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setActivity(Activity oldActivity, Activity replacementActivity) {
             throw new AssertionError("This method should not be called.");
@@ -438,6 +454,11 @@ public class CommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Doctor> getDoctorById(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteDoctor(Doctor target) {
             throw new AssertionError("This method should not be called.");
@@ -448,6 +469,11 @@ public class CommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Patient> getPatientById(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasConflictingActivity(Activity activity) {
             throw new AssertionError("This method should not be called.");
@@ -463,6 +489,11 @@ public class CommandTestUtil {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void markAddressBookAsSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Activity> getFilteredActivityListById() {
             throw new AssertionError("This method should not be called.");
@@ -498,6 +529,11 @@ public class CommandTestUtil {
             // noop
         }
 
+        @Override
+        public void updateFilteredActivitiesListToPeriod(Time from, Time to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableValue<Integer> getModelBeingShown() {
             throw new AssertionError("This method should not be called.");
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,11 +18,10 @@ import gomedic.logic.commands.CommandTestUtil;
 import gomedic.model.AddressBook;
 import gomedic.model.ReadOnlyAddressBook;
 import gomedic.model.activity.Activity;
+import gomedic.model.commonfield.Id;
 import gomedic.model.person.patient.Patient;
 import gomedic.testutil.TypicalPersons;
 import gomedic.testutil.modelbuilder.ActivityBuilder;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 
 class AddAppointmentCommandTest {
 
@@ -87,10 +87,8 @@ class AddAppointmentCommandTest {
         private int counter = 1;
 
         @Override
-        public ObservableList<Patient> getFilteredPatientList() {
-            ObservableList<Patient> dummyList = FXCollections.observableArrayList();
-            dummyList.add(TypicalPersons.MAIN_PATIENT);
-            return dummyList;
+        public Optional<Patient> getPatientById(Id id) {
+            return Optional.of(TypicalPersons.MAIN_PATIENT).filter(patient -> patient.getId().equals(id));
         }
 
         @Override
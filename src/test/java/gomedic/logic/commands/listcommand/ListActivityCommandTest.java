@@ -13,6 +13,8 @@ import gomedic.logic.commands.Command;
 import gomedic.model.Model;
 import gomedic.model.ModelManager;
 import gomedic.model.UserPrefs;
+import gomedic.model.commonfield.Time;
+import gomedic.testutil.TypicalActivities;
 
 class ListActivityCommandTest {
     private Model model;
@@ -39,6 +41,16 @@ class ListActivityCommandTest {
                 ListActivityCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_customPeriod_showsActivitiesStartingWithinPeriod() {
+        Time periodStart = TypicalActivities.MEETING.getStartTime();
+        Time periodEnd = TypicalActivities.PAPER_REVIEW.getStartTime();
+        expectedModel.updateFilteredActivitiesList(activity ->
+                activity.equals(TypicalActivities.MEETING) || activity.equals(TypicalActivities.PAPER_REVIEW));
+        assertCommandSuccess(new ListActivityCommand(ListActivityCommand.Sort.ID, periodStart, periodEnd), model,
+                ListActivityCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
     @Test
     public void execute_listIsFilteredByStartTime_showsEverything() {
         showActivityAtIndex(model, INDEX_FIRST);
@@ -455,6 +455,8 @@ public class ParserUtilTest {
         assertEquals(validActivityId, ParserUtil.parseId(VALID_ACTIVITY_ID));
         assertEquals(validDoctorId, ParserUtil.parseId(VALID_DOCTOR_ID));
         assertEquals(validPatientId, ParserUtil.parseId(VALID_PATIENT_ID));
+        assertEquals(new PatientId(1234567), ParserUtil.parseId("P1234567"));
+        assertEquals(new DoctorId(1000), ParserUtil.parseId(" D1000 "));
     }
 
     @Test
@@ -462,6 +464,8 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseId("B001"));
         assertThrows(ParseException.class, () -> ParserUtil.parseId("X001"));
         assertThrows(ParseException.class, () -> ParserUtil.parseId("Z9999"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseId("P12345678"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseId(""));
     }
 
     @Test
@@ -4,13 +4,17 @@ import static gomedic.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static gomedic.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import gomedic.commons.core.Messages;
 import gomedic.logic.commands.findcommand.FindDoctorCommand;
 import gomedic.model.person.doctor.Doctor;
+import gomedic.model.util.AllOfPredicate;
+import gomedic.model.util.DepartmentContainsKeywordsPredicate;
 import gomedic.model.util.NameContainsKeywordsPredicate;
+import gomedic.model.util.NotPredicate;
 
 public class FindDoctorCommandParserTest {
 
@@ -33,6 +37,14 @@ public class FindDoctorCommandParserTest {
         assertParseSuccess(parser, " n/ Alice  Bob ", expectedFindDoctorCommand);
 
     }
+
+    @Test
+    public void parse_combinedFields_returnsFindDoctorCommand() {
+        assertParseSuccess(parser, "de/cardiology AND NOT n/lee", new FindDoctorCommand(new AllOfPredicate<>(List.of(
+                new DepartmentContainsKeywordsPredicate<Doctor>(List.of("cardiology")),
+                new NotPredicate<>(new NameContainsKeywordsPredicate<Doctor>(List.of("lee")))))));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // no flag supplied
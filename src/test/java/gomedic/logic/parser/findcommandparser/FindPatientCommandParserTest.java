@@ -4,13 +4,22 @@ import static gomedic.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static gomedic.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import gomedic.commons.core.Messages;
 import gomedic.logic.commands.findcommand.FindPatientCommand;
 import gomedic.model.person.patient.Patient;
+import gomedic.model.util.AgeContainsKeywordsPredicate;
+import gomedic.model.util.AllOfPredicate;
+import gomedic.model.util.AnyOfPredicate;
+import gomedic.model.util.BloodTypeContainsKeywordsPredicate;
+import gomedic.model.util.MedicalConditionContainsKeywordsPredicate;
 import gomedic.model.util.NameContainsKeywordsPredicate;
+import gomedic.model.util.NumericRange;
+import gomedic.model.util.NumericRangePredicate;
+import gomedic.model.util.RangeIndex;
 
 public class FindPatientCommandParserTest {
 
@@ -33,6 +42,39 @@ public class FindPatientCommandParserTest {
         assertParseSuccess(parser, " n/ Alice  Bob ", expectedFindPatientCommand);
 
     }
+
+    @Test
+    public void parse_numericKeywords_returnsFindPatientCommand() {
+        // plain numbers are still matched as keywords
+        assertParseSuccess(parser, "a/4 60",
+                new FindPatientCommand(new AgeContainsKeywordsPredicate<>(Arrays.asList("4", "60"))));
+
+        // any range makes every keyword a range
+        assertParseSuccess(parser, "a/60-80 90", new FindPatientCommand(new NumericRangePredicate<>(
+                RangeIndex.Field.AGE, List.of(new NumericRange("60-80"), new NumericRange("90")))));
+        assertParseSuccess(parser, "h/>170", new FindPatientCommand(new NumericRangePredicate<>(
+                RangeIndex.Field.HEIGHT, List.of(new NumericRange(">170")))));
+        assertParseSuccess(parser, " w/ <=50 ", new FindPatientCommand(new NumericRangePredicate<>(
+                RangeIndex.Field.WEIGHT, List.of(new NumericRange("<=50")))));
+    }
+
+    @Test
+    public void parse_combinedFields_returnsFindPatientCommand() {
+        AnyOfPredicate<Patient> diabeticOrElderly = new AnyOfPredicate<>(List.of(
+                new MedicalConditionContainsKeywordsPredicate<Patient>(List.of("diabetes")),
+                new NumericRangePredicate<Patient>(RangeIndex.Field.AGE, List.of(new NumericRange(">60")))));
+        FindPatientCommand expectedCommand = new FindPatientCommand(new AllOfPredicate<>(List.of(
+                new BloodTypeContainsKeywordsPredicate<Patient>(List.of("O+")), diabeticOrElderly)));
+
+        assertParseSuccess(parser, "b/O+ AND (m/diabetes OR a/>60)", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        assertParseFailure(parser, "a/80-60", NumericRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "h/>170 tall", NumericRange.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // no flag supplied
@@ -0,0 +1,87 @@
+package gomedic.logic.parser.findcommandparser;
+
+import static gomedic.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import gomedic.commons.core.Messages;
+import gomedic.logic.parser.exceptions.ParseException;
+import gomedic.model.person.patient.Patient;
+import gomedic.model.util.AllOfPredicate;
+import gomedic.model.util.AnyOfPredicate;
+import gomedic.model.util.BloodTypeContainsKeywordsPredicate;
+import gomedic.model.util.MedicalConditionContainsKeywordsPredicate;
+import gomedic.model.util.NameContainsKeywordsPredicate;
+import gomedic.model.util.NotPredicate;
+
+public class FindQueryParserTest {
+
+    private static final String MESSAGE_USAGE = "usage";
+    private static final String MESSAGE_INVALID_QUERY =
+            String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+
+    private final FindQueryParser<Patient> parser = new FindQueryParser<>((field, keywords) -> {
+        switch (field) {
+        case "n":
+            return new NameContainsKeywordsPredicate<>(Arrays.asList(keywords));
+        case "b":
+            return new BloodTypeContainsKeywordsPredicate<>(Arrays.asList(keywords));
+        case "m":
+            return new MedicalConditionContainsKeywordsPredicate<>(Arrays.asList(keywords));
+        default:
+            throw new ParseException("unknown field " + field);
+        }
+    }, MESSAGE_USAGE);
+
+    private final Predicate<Patient> alice = new NameContainsKeywordsPredicate<>(List.of("alice", "lee"));
+    private final Predicate<Patient> bloodTypeO = new BloodTypeContainsKeywordsPredicate<>(List.of("O+"));
+    private final Predicate<Patient> diabetes = new MedicalConditionContainsKeywordsPredicate<>(List.of("diabetes"));
+
+    @Test
+    public void parse_singleTerm_returnsTermPredicate() throws Exception {
+        assertEquals(alice, parser.parse("n/alice lee"));
+        assertEquals(alice, parser.parse(" n/ alice  lee "));
+        assertEquals(alice, parser.parse("((n/alice lee))"));
+    }
+
+    @Test
+    public void parse_operators_returnsCombinedPredicate() throws Exception {
+        assertEquals(new AllOfPredicate<>(List.of(bloodTypeO, diabetes)), parser.parse("b/O+ AND m/diabetes"));
+        assertEquals(new AnyOfPredicate<>(List.of(bloodTypeO, diabetes)), parser.parse("b/O+ OR m/diabetes"));
+        assertEquals(new NotPredicate<>(diabetes), parser.parse("NOT m/diabetes"));
+
+        // lower case operators are keywords
+        assertEquals(new NameContainsKeywordsPredicate<Patient>(List.of("alice", "and", "bob")),
+                parser.parse("n/alice and bob"));
+    }
+
+    @Test
+    public void parse_precedence_notThenAndThenOr() throws Exception {
+        assertEquals(new AnyOfPredicate<>(List.of(alice, new AllOfPredicate<>(List.of(bloodTypeO,
+                        new NotPredicate<>(diabetes))))),
+                parser.parse("n/alice lee OR b/O+ AND NOT m/diabetes"));
+
+        assertEquals(new AllOfPredicate<>(List.of(new AnyOfPredicate<>(List.of(alice, bloodTypeO)), diabetes)),
+                parser.parse("(n/alice lee OR b/O+) AND m/diabetes"));
+        assertEquals(new AllOfPredicate<>(List.of(bloodTypeO, new AnyOfPredicate<>(List.of(alice, diabetes)))),
+                parser.parse("b/O+ AND(n/alice lee OR m/diabetes)"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        for (String query : List.of("", "   ", "alice", "n/", "n/alice m/diabetes", "n/alice AND", "AND n/alice",
+                "OR", "NOT", "(n/alice", "n/alice)", "()", "n/alice/bob", "n/alice (m/diabetes)")) {
+            assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> parser.parse(query));
+        }
+    }
+
+    @Test
+    public void parse_invalidTerm_throwsTermParseException() {
+        assertThrows(ParseException.class, "unknown field x", () -> parser.parse("n/alice OR x/bob"));
+    }
+}
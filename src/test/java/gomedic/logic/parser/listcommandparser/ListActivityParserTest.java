@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import gomedic.logic.commands.CommandTestUtil;
 import gomedic.logic.commands.listcommand.ListActivityCommand;
 import gomedic.logic.parser.CommandParserTestUtil;
+import gomedic.model.commonfield.Time;
 
 public class ListActivityParserTest {
     private final ListActivityParser parser = new ListActivityParser();
@@ -59,6 +60,37 @@ public class ListActivityParserTest {
                 new ListActivityCommand(ListActivityCommand.Sort.ID, ListActivityCommand.Period.ALL));
     }
 
+    @Test
+    public void parse_customPeriod_success() {
+        CommandParserTestUtil.assertParseSuccess(parser,
+                CommandTestUtil.VALID_SORT_FLAG_START
+                        + CommandTestUtil.VALID_PERIOD_START
+                        + CommandTestUtil.VALID_PERIOD_END,
+                new ListActivityCommand(ListActivityCommand.Sort.START,
+                        new Time("15/09/2022 13:00"), new Time("16/09/2022 13:00")));
+    }
+
+    @Test
+    public void parse_invalidCustomPeriod_failure() {
+        // missing end of period
+        CommandParserTestUtil.assertParseFailure(parser,
+                CommandTestUtil.VALID_PERIOD_START,
+                ListActivityCommand.MESSAGE_INVALID_CUSTOM_PERIOD);
+
+        // together with a period flag
+        CommandParserTestUtil.assertParseFailure(parser,
+                CommandTestUtil.VALID_PERIOD_FLAG_TODAY
+                        + CommandTestUtil.VALID_PERIOD_START
+                        + CommandTestUtil.VALID_PERIOD_END,
+                ListActivityCommand.MESSAGE_INVALID_CUSTOM_PERIOD);
+
+        // start of period after its end
+        CommandParserTestUtil.assertParseFailure(parser,
+                CommandTestUtil.INVALID_PERIOD_START
+                        + CommandTestUtil.VALID_PERIOD_END,
+                ListActivityCommand.MESSAGE_INVALID_CUSTOM_PERIOD);
+    }
+
     @Test
     public void parse_invalidValue_failure() {
         // invalid sort flag
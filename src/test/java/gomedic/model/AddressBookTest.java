@@ -25,7 +25,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -33,8 +36,6 @@ import gomedic.model.activity.Activity;
 import gomedic.model.activity.exceptions.ActivityNotFoundException;
 import gomedic.model.activity.exceptions.ConflictingActivityException;
 import gomedic.model.activity.exceptions.DuplicateActivityFoundException;
-import gomedic.model.commonfield.Id;
-import gomedic.model.commonfield.exceptions.MaxAddressBookCapacityReached;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.exceptions.DuplicatePersonException;
 import gomedic.model.person.exceptions.PersonNotFoundException;
@@ -307,12 +308,12 @@ public class AddressBookTest {
     }
 
     @Test
-    void hasNewDoctorId_maxItemInList_returnsFalse() {
-        for (int i = 1; i <= Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
+    void hasNewDoctorId_moreThanThreeDigitIds_returnsTrue() {
+        for (int i = 1; i <= 1000; i++) {
             Doctor toAdd = new DoctorBuilder().withId(i).build();
             addressBook.addDoctor(toAdd);
         }
-        assertFalse(addressBook.hasNewDoctorId());
+        assertTrue(addressBook.hasNewDoctorId());
     }
 
     @Test
@@ -338,12 +339,12 @@ public class AddressBookTest {
     }
 
     @Test
-    void getNewDoctorId_maxListSize_throwsMaxListCapacityExceededException() {
-        for (int i = 1; i <= Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
+    void getNewDoctorId_allThreeDigitIdsTaken_returnsFourDigitId() {
+        for (int i = 1; i <= 999; i++) {
             Doctor toAdd = new DoctorBuilder().withId(i).build();
             addressBook.addDoctor(toAdd);
         }
-        assertThrows(MaxAddressBookCapacityReached.class, addressBook::getNewDoctorId);
+        assertEquals(1000, addressBook.getNewDoctorId());
     }
 
     @Test
@@ -358,12 +359,12 @@ public class AddressBookTest {
     }
 
     @Test
-    void hasNewPatientId_maxItemInList_returnsFalse() {
-        for (int i = 1; i <= Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
+    void hasNewPatientId_moreThanThreeDigitIds_returnsTrue() {
+        for (int i = 1; i <= 1000; i++) {
             Patient toAdd = new PatientBuilder().withId(i).build();
             addressBook.addPatient(toAdd);
         }
-        assertFalse(addressBook.hasNewPatientId());
+        assertTrue(addressBook.hasNewPatientId());
     }
 
     @Test
@@ -389,12 +390,62 @@ public class AddressBookTest {
     }
 
     @Test
-    void getNewPatientId_maxListSize_throwsMaxListCapacityExceededException() {
-        for (int i = 1; i <= Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
+    void getNewPatientId_allThreeDigitIdsTaken_returnsFourDigitId() {
+        for (int i = 1; i <= 999; i++) {
             Patient toAdd = new PatientBuilder().withId(i).build();
             addressBook.addPatient(toAdd);
         }
-        assertThrows(MaxAddressBookCapacityReached.class, addressBook::getNewPatientId);
+        assertEquals(1000, addressBook.getNewPatientId());
+    }
+
+    @Test
+    public void getModifiedDataTypes_newAddressBook_allDataModified() {
+        assertEquals(EnumSet.allOf(DataType.class), addressBook.getModifiedDataTypes());
+    }
+
+    @Test
+    public void markAsSaved_thenModifyDoctors_onlyDoctorsModified() {
+        addressBook.markAsSaved();
+        assertTrue(addressBook.getModifiedDataTypes().isEmpty());
+
+        addressBook.addDoctor(MAIN_DOCTOR);
+        assertEquals(EnumSet.of(DataType.DOCTORS), addressBook.getModifiedDataTypes());
+    }
+
+    @Test
+    public void markAsSaved_thenFailedModification_nothingModified() {
+        addressBook.addPatient(MAIN_PATIENT);
+        addressBook.markAsSaved();
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPatient(MAIN_PATIENT));
+        assertTrue(addressBook.getModifiedDataTypes().isEmpty());
+    }
+
+    @Test
+    public void getModifiedData_itemsChangedOneAtATime_idsKept() {
+        addressBook.addDoctor(MAIN_DOCTOR);
+        addressBook.addPatient(MAIN_PATIENT);
+        addressBook.markAsSaved();
+
+        addressBook.removeDoctor(MAIN_DOCTOR);
+        addressBook.setPatient(MAIN_PATIENT, new PatientBuilder(MAIN_PATIENT).withName("Bob").build());
+        ModifiedData modifiedData = addressBook.getModifiedData();
+        assertEquals(Optional.of(Set.of(MAIN_DOCTOR.getId())), modifiedData.getIds(DataType.DOCTORS));
+        assertEquals(Optional.of(Set.of(MAIN_PATIENT.getId())), modifiedData.getIds(DataType.PATIENTS));
+        assertEquals(Optional.of(Set.of()), modifiedData.getIds(DataType.ACTIVITIES));
+
+        // a list replaced as a whole may have changed anywhere
+        addressBook.setDoctors(List.of(MAIN_DOCTOR));
+        assertEquals(Optional.empty(), addressBook.getModifiedData().getIds(DataType.DOCTORS));
+    }
+
+    @Test
+    public void markAsSaved_thenModifyActivitiesAndUserProfile_bothModified() {
+        addressBook.markAsSaved();
+
+        addressBook.addActivity(MEETING);
+        addressBook.setUserProfile(OTHER_PROFILE);
+        assertEquals(EnumSet.of(DataType.ACTIVITIES, DataType.USER_PROFILE), addressBook.getModifiedDataTypes());
     }
 
     /**
@@ -432,6 +483,18 @@ public class AddressBookTest {
             return userProfile;
         }
 
+        @Override
+        public Set<DataType> getModifiedDataTypes() {
+            return EnumSet.allOf(DataType.class);
+        }
+
+        @Override
+        public ModifiedData getModifiedData() {
+            ModifiedData modifiedData = new ModifiedData();
+            getModifiedDataTypes().forEach(modifiedData::addAll);
+            return modifiedData;
+        }
+
         @Override
         public ObservableList<Doctor> getDoctorListSortedById() {
             return doctors;
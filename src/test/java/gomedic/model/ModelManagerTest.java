@@ -14,13 +14,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import gomedic.commons.core.GuiSettings;
-import gomedic.model.commonfield.Id;
-import gomedic.model.commonfield.exceptions.MaxAddressBookCapacityReached;
+import gomedic.model.activity.Activity;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.patient.Patient;
 import gomedic.model.util.NameContainsKeywordsPredicate;
@@ -29,6 +29,7 @@ import gomedic.testutil.AddressBookBuilder;
 import gomedic.testutil.Assert;
 import gomedic.testutil.TypicalActivities;
 import gomedic.testutil.TypicalPersons;
+import gomedic.testutil.modelbuilder.ActivityBuilder;
 import gomedic.testutil.modelbuilder.DoctorBuilder;
 import gomedic.testutil.modelbuilder.PatientBuilder;
 
@@ -146,6 +147,15 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasDoctor(TypicalPersons.MAIN_DOCTOR));
     }
 
+    @Test
+    public void getDoctorById_doctorNotShownInFilteredList_returnsDoctor() {
+        modelManager.addDoctor(TypicalPersons.MAIN_DOCTOR);
+        modelManager.updateFilteredDoctorList(doctor -> false);
+        assertEquals(Optional.of(TypicalPersons.MAIN_DOCTOR),
+                modelManager.getDoctorById(TypicalPersons.MAIN_DOCTOR.getId()));
+        assertEquals(Optional.empty(), modelManager.getDoctorById(TypicalPersons.OTHER_DOCTOR.getId()));
+    }
+
     @Test
     void hasNewDoctorId_emptyList_returnsTrue() {
         assertTrue(modelManager.hasNewDoctorId());
@@ -158,12 +168,12 @@ public class ModelManagerTest {
     }
 
     @Test
-    void hasNewDoctorId_maxItemInList_returnsFalse() {
-        for (int i = 1; i <= Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
+    void hasNewDoctorId_moreThanThreeDigitIds_returnsTrue() {
+        for (int i = 1; i <= 1000; i++) {
             Doctor toAdd = new DoctorBuilder().withId(i).build();
             modelManager.addDoctor(toAdd);
         }
-        assertFalse(modelManager.hasNewDoctorId());
+        assertTrue(modelManager.hasNewDoctorId());
     }
 
     @Test
@@ -179,12 +189,12 @@ public class ModelManagerTest {
     }
 
     @Test
-    void getNewDoctorId_maxListSize_throwsMaxAddressBookCapacityReached() {
-        for (int i = 1; i <= Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
+    void getNewDoctorId_allThreeDigitIdsTaken_returnsFourDigitId() {
+        for (int i = 1; i <= 999; i++) {
             Doctor toAdd = new DoctorBuilder().withId(i).build();
             modelManager.addDoctor(toAdd);
         }
-        assertThrows(MaxAddressBookCapacityReached.class, modelManager::getNewDoctorId);
+        assertEquals(1000, modelManager.getNewDoctorId());
     }
 
     @Test
@@ -209,6 +219,15 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPatient(TypicalPersons.MAIN_PATIENT));
     }
 
+    @Test
+    public void getPatientById_patientNotShownInFilteredList_returnsPatient() {
+        modelManager.addPatient(TypicalPersons.MAIN_PATIENT);
+        modelManager.updateFilteredPatientList(patient -> false);
+        assertEquals(Optional.of(TypicalPersons.MAIN_PATIENT),
+                modelManager.getPatientById(TypicalPersons.MAIN_PATIENT.getId()));
+        assertEquals(Optional.empty(), modelManager.getPatientById(TypicalPersons.OTHER_PATIENT.getId()));
+    }
+
     @Test
     void hasNewPatientId_emptyList_returnsTrue() {
         assertTrue(modelManager.hasNewPatientId());
@@ -221,12 +240,12 @@ public class ModelManagerTest {
     }
 
     @Test
-    void hasNewPatientId_maxItemInList_returnsFalse() {
-        for (int i = 1; i <= Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
+    void hasNewPatientId_moreThanThreeDigitIds_returnsTrue() {
+        for (int i = 1; i <= 1000; i++) {
             Patient toAdd = new PatientBuilder().withId(i).build();
             modelManager.addPatient(toAdd);
         }
-        assertFalse(modelManager.hasNewPatientId());
+        assertTrue(modelManager.hasNewPatientId());
     }
 
     @Test
@@ -242,12 +261,12 @@ public class ModelManagerTest {
     }
 
     @Test
-    void getNewPatientId_maxListSize_throwsMaxAddressBookCapacityReached() {
-        for (int i = 1; i <= Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
+    void getNewPatientId_allThreeDigitIdsTaken_returnsFourDigitId() {
+        for (int i = 1; i <= 999; i++) {
             Patient toAdd = new PatientBuilder().withId(i).build();
             modelManager.addPatient(toAdd);
         }
-        assertThrows(MaxAddressBookCapacityReached.class, modelManager::getNewPatientId);
+        assertEquals(1000, modelManager.getNewPatientId());
     }
 
     @Test
@@ -272,6 +291,33 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasActivity(TypicalActivities.MEETING));
     }
 
+    @Test
+    public void getActivityById_activityNotShownInFilteredList_returnsActivity() {
+        modelManager.addActivity(TypicalActivities.MEETING);
+        modelManager.updateFilteredActivitiesList(activity -> false);
+        assertEquals(Optional.of(TypicalActivities.MEETING),
+                modelManager.getActivityById(TypicalActivities.MEETING.getActivityId()));
+        assertEquals(Optional.empty(), modelManager.getActivityById(TypicalActivities.PAPER_REVIEW.getActivityId()));
+    }
+
+    @Test
+    public void updateFilteredActivitiesListToPeriod_activitiesChangedAfterwards_filterStillApplied() {
+        modelManager.addActivity(TypicalActivities.MEETING);
+        modelManager.addActivity(TypicalActivities.PAPER_REVIEW);
+        modelManager.updateFilteredActivitiesListToPeriod(TypicalActivities.MEETING.getStartTime(),
+                TypicalActivities.MEETING.getStartTime());
+        assertEquals(Arrays.asList(TypicalActivities.MEETING), modelManager.getFilteredActivityListById());
+
+        Activity editedMeeting = new ActivityBuilder().withId(1).withTitle("Edited meeting")
+                .withStartTime("15/09/2022 13:00").withEndTime("15/09/2022 15:00").build();
+        modelManager.setActivity(TypicalActivities.MEETING, editedMeeting);
+        Activity movedPaperReview = new ActivityBuilder().withId(3)
+                .withStartTime("15/09/2022 10:00").withEndTime("15/09/2022 11:00").build();
+        modelManager.setActivity(TypicalActivities.PAPER_REVIEW, movedPaperReview);
+        assertEquals(Arrays.asList(editedMeeting), modelManager.getFilteredActivityListById());
+        Assertions.assertSame(editedMeeting, modelManager.getFilteredActivityListById().get(0));
+    }
+
     @Test
     public void getFilteredActivityList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredActivityListById()
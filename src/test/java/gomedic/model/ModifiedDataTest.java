@@ -0,0 +1,63 @@
+package gomedic.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.commonfield.Id;
+import gomedic.model.person.doctor.DoctorId;
+import gomedic.model.person.patient.PatientId;
+
+public class ModifiedDataTest {
+    private static final Id FIRST_PATIENT_ID = new PatientId(1);
+    private static final Id SECOND_PATIENT_ID = new PatientId(2);
+    private static final Id DOCTOR_ID = new DoctorId(1);
+
+    @Test
+    public void add_itemsOfSomeDataTypes_onlyThoseModified() {
+        ModifiedData modifiedData = new ModifiedData();
+        modifiedData.add(DataType.PATIENTS, FIRST_PATIENT_ID);
+        modifiedData.add(DataType.PATIENTS, SECOND_PATIENT_ID);
+
+        assertEquals(EnumSet.of(DataType.PATIENTS), modifiedData.getDataTypes());
+        assertEquals(Optional.of(Set.of(FIRST_PATIENT_ID, SECOND_PATIENT_ID)),
+                modifiedData.getIds(DataType.PATIENTS));
+        assertEquals(Optional.of(Set.of()), modifiedData.getIds(DataType.DOCTORS));
+    }
+
+    @Test
+    public void addAll_dataType_idsNoLongerKept() {
+        ModifiedData modifiedData = new ModifiedData();
+        modifiedData.add(DataType.PATIENTS, FIRST_PATIENT_ID);
+        modifiedData.addAll(DataType.PATIENTS);
+        modifiedData.add(DataType.PATIENTS, SECOND_PATIENT_ID);
+
+        assertEquals(Optional.empty(), modifiedData.getIds(DataType.PATIENTS));
+    }
+
+    @Test
+    public void addAll_otherModifiedData_merged() {
+        ModifiedData modifiedData = new ModifiedData();
+        modifiedData.add(DataType.PATIENTS, FIRST_PATIENT_ID);
+        ModifiedData other = new ModifiedData();
+        other.add(DataType.PATIENTS, SECOND_PATIENT_ID);
+        other.add(DataType.DOCTORS, DOCTOR_ID);
+        other.addAll(DataType.ACTIVITIES);
+
+        modifiedData.addAll(other);
+        assertEquals(EnumSet.of(DataType.PATIENTS, DataType.DOCTORS, DataType.ACTIVITIES),
+                modifiedData.getDataTypes());
+        assertEquals(Optional.of(Set.of(FIRST_PATIENT_ID, SECOND_PATIENT_ID)),
+                modifiedData.getIds(DataType.PATIENTS));
+        assertEquals(Optional.of(Set.of(DOCTOR_ID)), modifiedData.getIds(DataType.DOCTORS));
+        assertEquals(Optional.empty(), modifiedData.getIds(DataType.ACTIVITIES));
+
+        modifiedData.clear();
+        assertTrue(modifiedData.getDataTypes().isEmpty());
+    }
+}
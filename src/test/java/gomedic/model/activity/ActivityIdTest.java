@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import gomedic.model.commonfield.Id;
 import gomedic.model.commonfield.IdTest;
 
 public class ActivityIdTest {
@@ -18,7 +19,7 @@ public class ActivityIdTest {
 
     @Test
     public void constructor_invalidNumber_throwsIllegalArgumentException() {
-        assertThrows(IllegalArgumentException.class, () -> new ActivityId(1000));
+        assertThrows(IllegalArgumentException.class, () -> new ActivityId(Id.MAXIMUM_ASSIGNABLE_IDS + 1));
     }
 
     @Test
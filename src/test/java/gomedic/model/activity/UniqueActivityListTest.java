@@ -1,6 +1,7 @@
 package gomedic.model.activity;
 
 import static gomedic.testutil.Assert.assertThrows;
+import static gomedic.testutil.TypicalActivities.APPOINTMENT;
 import static gomedic.testutil.TypicalActivities.CONFLICTING_MEETING;
 import static gomedic.testutil.TypicalActivities.DUPLICATE_ACTIVITY;
 import static gomedic.testutil.TypicalActivities.MEETING;
@@ -12,15 +13,20 @@ import static gomedic.testutil.TypicalActivities.getTypicalActivitiesDuplicate;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import gomedic.model.activity.exceptions.ActivityNotFoundException;
 import gomedic.model.activity.exceptions.ConflictingActivityException;
 import gomedic.model.activity.exceptions.DuplicateActivityFoundException;
-import gomedic.model.commonfield.exceptions.MaxAddressBookCapacityReached;
+import gomedic.model.person.patient.PatientId;
 import gomedic.testutil.modelbuilder.ActivityBuilder;
+import javafx.collections.ObservableList;
 
 class UniqueActivityListTest {
     private final UniqueActivityList uniqueActivityList = new UniqueActivityList();
@@ -43,29 +49,25 @@ class UniqueActivityListTest {
     }
 
     @Test
-    void add_maxCapacity_throwsMaxCapacityReached() {
+    void add_moreThanThreeDigitIds_success() {
         String startTime = "%02d/%02d/%04d 15:00";
         String endTime = "%02d/%02d/%04d 16:00";
 
-        Runnable r = () -> {
-            for (int day = 1; day < 28; day++) {
-                for (int month = 1; month < 12; month++) {
-                    for (int year = 2000; year < 2100; year++) {
-                        Activity a = new ActivityBuilder()
-                                .withId(uniqueActivityList.getNewActivityId())
-                                .withTitle("test")
-                                .withStartTime(String.format(startTime, day, month, year))
-                                .withEndTime(String.format(endTime, day, month, year))
-                                .build();
-
-                        uniqueActivityList.add(a);
-                    }
-                }
-            }
-        };
+        for (int day = 1; day <= 10; day++) {
+            for (int year = 2000; year < 2100; year++) {
+                Activity a = new ActivityBuilder()
+                        .withId(uniqueActivityList.getNewActivityId())
+                        .withTitle("test")
+                        .withStartTime(String.format(startTime, day, 1, year))
+                        .withEndTime(String.format(endTime, day, 1, year))
+                        .build();
 
-        assertThrows(MaxAddressBookCapacityReached.class, r::run);
+                uniqueActivityList.add(a);
+            }
+        }
 
+        assertEquals(1001, uniqueActivityList.getNewActivityId());
+        assertEquals("A1001", new ActivityId(uniqueActivityList.getNewActivityId()).toString());
     }
 
     @Test
@@ -90,6 +92,109 @@ class UniqueActivityListTest {
         assertFalse(uniqueActivityList.containsConflicting(PAPER_REVIEW));
     }
 
+    @Test
+    void getConflictingActivities_variousMeeting_returnsOverlappingActivities() {
+        uniqueActivityList.setActivities(getTypicalActivities());
+        assertEquals(List.of(MEETING), uniqueActivityList.getConflictingActivities(CONFLICTING_MEETING));
+        assertEquals(List.of(), uniqueActivityList.getConflictingActivities(MEETING));
+
+        Activity spanningActivity = new ActivityBuilder()
+                .withId(10)
+                .withStartTime("15/09/2022 14:00")
+                .withEndTime("16/09/2022 14:00")
+                .build();
+        assertEquals(List.of(MEETING, PAPER_REVIEW), uniqueActivityList.getConflictingActivities(spanningActivity));
+
+        Activity adjacentActivity = new ActivityBuilder()
+                .withId(10)
+                .withStartTime("15/09/2022 15:00")
+                .withEndTime("16/09/2022 13:00")
+                .build();
+        assertEquals(List.of(), uniqueActivityList.getConflictingActivities(adjacentActivity));
+    }
+
+    @Test
+    void containsConflicting_afterRemoveAndEdit_indexUpdated() {
+        uniqueActivityList.add(MEETING);
+        uniqueActivityList.remove(MEETING);
+        assertFalse(uniqueActivityList.containsConflicting(CONFLICTING_MEETING));
+
+        uniqueActivityList.add(MEETING);
+        uniqueActivityList.setActivity(MEETING, PAPER_REVIEW);
+        assertFalse(uniqueActivityList.containsConflicting(CONFLICTING_MEETING));
+        assertTrue(uniqueActivityList.containsConflicting(new ActivityBuilder()
+                .withId(10)
+                .withStartTime("16/09/2022 12:00")
+                .withEndTime("16/09/2022 14:00")
+                .build()));
+    }
+
+    @Test
+    void getById_afterEditAndRemove_indexUpdated() {
+        assertEquals(Optional.empty(), uniqueActivityList.getById(MEETING.getActivityId()));
+
+        uniqueActivityList.add(MEETING);
+        assertEquals(Optional.of(MEETING), uniqueActivityList.getById(MEETING.getActivityId()));
+
+        uniqueActivityList.setActivity(MEETING, PAPER_REVIEW);
+        assertEquals(Optional.empty(), uniqueActivityList.getById(MEETING.getActivityId()));
+        assertEquals(Optional.of(PAPER_REVIEW), uniqueActivityList.getById(PAPER_REVIEW.getActivityId()));
+
+        uniqueActivityList.remove(PAPER_REVIEW);
+        assertEquals(Optional.empty(), uniqueActivityList.getById(PAPER_REVIEW.getActivityId()));
+
+        uniqueActivityList.setActivities(List.of(MEETING));
+        assertEquals(Optional.of(MEETING), uniqueActivityList.getById(MEETING.getActivityId()));
+    }
+
+    @Test
+    void getAppointmentsOf_severalPatients_returnsOnlyTheirAppointmentsSortedByStartTime() {
+        Activity laterAppointment = new ActivityBuilder()
+                .withId(6)
+                .withPatientId(1)
+                .withStartTime("25/09/2022 13:00")
+                .withEndTime("25/09/2022 14:00")
+                .build();
+        Activity otherPatientAppointment = new ActivityBuilder()
+                .withId(7)
+                .withPatientId(2)
+                .withStartTime("26/09/2022 13:00")
+                .withEndTime("26/09/2022 14:00")
+                .build();
+        uniqueActivityList.setActivities(List.of(laterAppointment, MEETING, otherPatientAppointment, APPOINTMENT));
+
+        assertEquals(List.of(APPOINTMENT, laterAppointment), uniqueActivityList.getAppointmentsOf(new PatientId(1)));
+        assertEquals(List.of(otherPatientAppointment), uniqueActivityList.getAppointmentsOf(new PatientId(2)));
+        assertEquals(List.of(), uniqueActivityList.getAppointmentsOf(new PatientId(3)));
+
+        uniqueActivityList.setActivity(laterAppointment, PAPER_REVIEW);
+        assertEquals(List.of(APPOINTMENT), uniqueActivityList.getAppointmentsOf(new PatientId(1)));
+
+        uniqueActivityList.remove(APPOINTMENT);
+        assertEquals(List.of(), uniqueActivityList.getAppointmentsOf(new PatientId(1)));
+    }
+
+    @Test
+    void removeAppointmentsOf_patientWithAppointments_removesOnlyTheirAppointments() {
+        Activity otherPatientAppointment = new ActivityBuilder()
+                .withId(7)
+                .withPatientId(2)
+                .withStartTime("26/09/2022 13:00")
+                .withEndTime("26/09/2022 14:00")
+                .build();
+        uniqueActivityList.setActivities(List.of(MEETING, APPOINTMENT, otherPatientAppointment));
+
+        uniqueActivityList.removeAppointmentsOf(new PatientId(1));
+        uniqueActivityList.removeAppointmentsOf(new PatientId(3));
+
+        UniqueActivityList expectedUniqueActivityList = new UniqueActivityList();
+        expectedUniqueActivityList.setActivities(List.of(MEETING, otherPatientAppointment));
+        assertEquals(expectedUniqueActivityList, uniqueActivityList);
+        assertFalse(uniqueActivityList.contains(APPOINTMENT));
+        assertFalse(uniqueActivityList.containsConflicting(APPOINTMENT));
+        assertEquals(Optional.empty(), uniqueActivityList.getById(APPOINTMENT.getActivityId()));
+    }
+
     @Test
     public void remove_nullActivity_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueActivityList.remove(null));
@@ -141,6 +246,28 @@ class UniqueActivityListTest {
                 getTypicalActivitiesConflicting()));
     }
 
+    @Test
+    public void setActivities_listWithSeveralConflicts_reportsEveryPair() {
+        Activity spanningActivity = new ActivityBuilder()
+                .withId(10)
+                .withStartTime("15/09/2022 12:00")
+                .withEndTime("16/09/2022 14:00")
+                .build();
+        List<Activity> activities = List.of(PAPER_REVIEW, MEETING, PAST_ACTIVITY, spanningActivity);
+
+        assertThrows(ConflictingActivityException.class,
+                ConflictingActivityException.MESSAGE + ": A010 and A001, A010 and A003", () ->
+                        uniqueActivityList.setActivities(activities));
+        assertEquals(new UniqueActivityList(), uniqueActivityList);
+    }
+
+    @Test
+    public void setActivities_listDuplicate_reportsDuplicatedId() {
+        assertThrows(DuplicateActivityFoundException.class,
+                DuplicateActivityFoundException.MESSAGE + " Duplicated ids: A001 (Meeting me and playing games)", () ->
+                        uniqueActivityList.setActivities(getTypicalActivitiesDuplicate()));
+    }
+
     @Test
     public void iterator_ableToBeIterated_testPassed() {
         assertDoesNotThrow(() -> uniqueActivityList.forEach(it -> System.out.println(1)));
@@ -174,6 +301,20 @@ class UniqueActivityListTest {
         }
     }
 
+    @Test
+    public void asUnmodifiableSortedByStartTimeList_afterChanges_sameViewKeptSorted() {
+        ObservableList<Activity> sortedView = uniqueActivityList.asUnmodifiableSortedByStartTimeList();
+        uniqueActivityList.add(PAPER_REVIEW);
+        uniqueActivityList.add(MEETING);
+        uniqueActivityList.add(PAST_ACTIVITY);
+
+        assertSame(sortedView, uniqueActivityList.asUnmodifiableSortedByStartTimeList());
+        assertEquals(List.of(PAST_ACTIVITY, MEETING, PAPER_REVIEW), sortedView);
+
+        uniqueActivityList.remove(MEETING);
+        assertEquals(List.of(PAST_ACTIVITY, PAPER_REVIEW), sortedView);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(
@@ -1,15 +1,29 @@
 package gomedic.model.activity.exceptions;
 
+import static gomedic.testutil.TypicalActivities.CONFLICTING_MEETING;
+import static gomedic.testutil.TypicalActivities.MEETING;
+import static gomedic.testutil.TypicalActivities.PAPER_REVIEW;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 class ConflictingActivityExceptionTest {
     @Test
     public void constructor() {
-        assertDoesNotThrow(ConflictingActivityException::new);
+        assertDoesNotThrow(() -> new ConflictingActivityException());
         assertEquals("There is partial/full overlap in the activity timing",
                 new ConflictingActivityException().getMessage());
     }
+
+    @Test
+    public void constructor_conflictingPairs_listsEveryPair() {
+        assertEquals("There is partial/full overlap in the activity timing: A001 and A002, A001 and A003",
+                new ConflictingActivityException(List.of(
+                        Map.entry(MEETING, CONFLICTING_MEETING),
+                        Map.entry(MEETING, PAPER_REVIEW))).getMessage());
+    }
 }
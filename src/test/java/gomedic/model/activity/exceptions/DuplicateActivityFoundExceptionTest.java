@@ -8,7 +8,7 @@ import org.junit.jupiter.api.Test;
 class DuplicateActivityFoundExceptionTest {
     @Test
     public void constructor_isRuntimeException() {
-        assertDoesNotThrow(DuplicateActivityFoundException::new);
+        assertDoesNotThrow(() -> new DuplicateActivityFoundException());
         assertEquals("Operation would result in duplicate activity as the existing activity exists already.",
                 new DuplicateActivityFoundException().getMessage());
 
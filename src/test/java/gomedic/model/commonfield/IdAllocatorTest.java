@@ -0,0 +1,113 @@
+package gomedic.model.commonfield;
+
+import static gomedic.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.commonfield.exceptions.MaxAddressBookCapacityReached;
+
+class IdAllocatorTest {
+    private final IdAllocator idAllocator = new IdAllocator();
+
+    @Test
+    void getLowestAvailableId_emptyAllocator_returns1() {
+        assertTrue(idAllocator.hasAvailableId());
+        assertEquals(1, idAllocator.getLowestAvailableId());
+    }
+
+    @Test
+    void take_consecutiveIds_returnsNextId() {
+        idAllocator.take(1);
+        idAllocator.take(2);
+        idAllocator.take(3);
+        assertEquals(4, idAllocator.getLowestAvailableId());
+    }
+
+    @Test
+    void take_idWithGap_returnsGap() {
+        idAllocator.take(1);
+        idAllocator.take(3);
+        assertEquals(2, idAllocator.getLowestAvailableId());
+
+        idAllocator.take(2);
+        assertEquals(4, idAllocator.getLowestAvailableId());
+    }
+
+    @Test
+    void release_takenId_returnsLowestReleasedId() {
+        IntStream.rangeClosed(1, 5).forEach(idAllocator::take);
+        idAllocator.release(4);
+        idAllocator.release(2);
+        assertEquals(2, idAllocator.getLowestAvailableId());
+
+        idAllocator.take(2);
+        assertEquals(4, idAllocator.getLowestAvailableId());
+    }
+
+    @Test
+    void release_neighbouringIds_freedIdsMerged() {
+        IntStream.rangeClosed(1, 5).forEach(idAllocator::take);
+        idAllocator.release(2);
+        idAllocator.release(4);
+        idAllocator.release(3);
+
+        idAllocator.take(2);
+        idAllocator.take(3);
+        idAllocator.take(4);
+        assertEquals(6, idAllocator.getLowestAvailableId());
+    }
+
+    @Test
+    void release_idTakenAgainAfterLongRun_returnsNextIdAfterRun() {
+        IntStream.rangeClosed(1, 100_000).forEach(idAllocator::take);
+        for (int i = 0; i < 1000; i++) {
+            idAllocator.release(1);
+            assertEquals(1, idAllocator.getLowestAvailableId());
+            idAllocator.take(1);
+            assertEquals(100_001, idAllocator.getLowestAvailableId());
+        }
+    }
+
+    @Test
+    void takeAndRelease_idAlreadyInThatState_nothingChanged() {
+        idAllocator.take(2);
+        idAllocator.take(2);
+        idAllocator.release(1);
+        assertEquals(1, idAllocator.getLowestAvailableId());
+
+        idAllocator.take(1);
+        assertEquals(3, idAllocator.getLowestAvailableId());
+    }
+
+    @Test
+    void reset_ids_replacesTakenIds() {
+        idAllocator.take(1);
+        idAllocator.reset(IntStream.of(2, 3, 5));
+        assertEquals(1, idAllocator.getLowestAvailableId());
+
+        idAllocator.take(1);
+        assertEquals(4, idAllocator.getLowestAvailableId());
+    }
+
+    @Test
+    void take_allIds_throwsMaxAddressBookCapacityReached() {
+        idAllocator.reset(IntStream.rangeClosed(1, Id.MAXIMUM_ASSIGNABLE_IDS));
+        assertFalse(idAllocator.hasAvailableId());
+        assertThrows(MaxAddressBookCapacityReached.class, idAllocator::getLowestAvailableId);
+
+        idAllocator.release(Id.MAXIMUM_ASSIGNABLE_IDS);
+        assertEquals(Id.MAXIMUM_ASSIGNABLE_IDS, idAllocator.getLowestAvailableId());
+    }
+
+    @Test
+    void take_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> idAllocator.take(0));
+        assertThrows(IllegalArgumentException.class, () -> idAllocator.take(Id.MAXIMUM_ASSIGNABLE_IDS + 1));
+        assertThrows(IllegalArgumentException.class, () -> idAllocator.release(-1));
+    }
+}
@@ -17,7 +17,7 @@ public class IdTest {
 
     @Test
     public void constructor_invalidId_throwsIllegalArgumentException() {
-        assertThrows(IllegalArgumentException.class, () -> new TestId(1000, 'Z'));
+        assertThrows(IllegalArgumentException.class, () -> new TestId(Id.MAXIMUM_ASSIGNABLE_IDS + 1, 'Z'));
     }
 
     @Test
@@ -42,6 +42,9 @@ public class IdTest {
         // equals
         assertEquals(new TestId(100, 'Z').hashCode(), "Z100".hashCode());
 
+        assertEquals(new TestId(1, 'A').hashCode(), "A001".hashCode());
+        assertEquals(new TestId(1234567, 'P').hashCode(), "P1234567".hashCode());
+
         // not equals
         for (char c = 'A'; c < 'Z'; c++) {
             assertNotEquals(new TestId(100, 'Z').hashCode(), (c + "100").hashCode());
@@ -53,6 +56,8 @@ public class IdTest {
         // equals
         assertEquals(new TestId(100, 'Z').toString(), "Z100");
         assertEquals(new TestId(1, 'A').hashCode(), "A001".hashCode());
+        assertEquals(new TestId(1000, 'A').toString(), "A1000");
+        assertEquals(new TestId(1234567, 'P').toString(), "P1234567");
 
         // not equals
         assertNotEquals(new TestId(1, 'A').hashCode(), "A010".hashCode());
@@ -65,13 +70,14 @@ public class IdTest {
 
         // invalid Id numbers
         assertFalse(Id.isValidId(0, 'Z')); // id < 1
-        assertFalse(Id.isValidId(1000, 'Z')); // id > 999
+        assertFalse(Id.isValidId(Id.MAXIMUM_ASSIGNABLE_IDS + 1, 'Z')); // id > maximum
         assertFalse(Id.isValidId(1, 'a')); // char not A-Z but still an alphabet
         assertFalse(Id.isValidId(1, '!')); // char not A-Z
 
         // valid Id numbers
         assertTrue(Id.isValidId(1, 'Z')); // id >= 1, valid prefix
         assertTrue(Id.isValidId(999, 'Z')); // edge prefix Z and id 999
+        assertTrue(Id.isValidId(Id.MAXIMUM_ASSIGNABLE_IDS, 'Z')); // edge id maximum
         assertTrue(Id.isValidId(50, 'A')); // edge prefix A
         assertTrue(Id.isValidId(50, 'K')); // common case prefix and id
     }
@@ -80,11 +86,24 @@ public class IdTest {
     public void isValidIdFormat() {
         // valid Id format
         assertTrue(Id.isValidIdFormat("Z999"));
+        assertTrue(Id.isValidIdFormat("Z1000"));
+        assertTrue(Id.isValidIdFormat("Z1234567"));
 
         // invalid id format
         assertFalse(Id.isValidIdFormat("test"));
         assertFalse(Id.isValidIdFormat("A1"));
         assertFalse(Id.isValidIdFormat("a100"));
+        assertFalse(Id.isValidIdFormat("A12345678"));
+        assertFalse(Id.isValidIdFormat("A"));
+        assertFalse(Id.isValidIdFormat("A-10"));
+        assertFalse(Id.isValidIdFormat("A+10"));
+        assertFalse(Id.isValidIdFormat("A\u0661\u0662\u0663")); // non-ascii digits
+    }
+
+    @Test
+    public void getPrefix_validInput_testsPassed() {
+        assertEquals('A', new TestId(999, 'A').getPrefix());
+        assertEquals('Z', new TestId(10, 'Z').getPrefix());
     }
 
     @Test
@@ -102,7 +121,7 @@ public class IdTest {
         /**
          * Constructs a {@code Id}.
          *
-         * @param id Integer from 0-999.
+         * @param id Integer from 1 to Id.MAXIMUM_ASSIGNABLE_IDS.
          * @param prefix Char from A-Z only.
          */
         public TestId(Integer id, Character prefix) {
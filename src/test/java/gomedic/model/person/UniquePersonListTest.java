@@ -5,20 +5,35 @@ import static gomedic.testutil.TypicalPersons.MAIN_DOCTOR;
 import static gomedic.testutil.TypicalPersons.OTHER_DOCTOR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import gomedic.model.commonfield.Id;
-import gomedic.model.commonfield.exceptions.MaxAddressBookCapacityReached;
 import gomedic.model.person.doctor.Doctor;
 import gomedic.model.person.exceptions.DuplicatePersonException;
 import gomedic.model.person.exceptions.PersonNotFoundException;
+import gomedic.model.person.patient.Patient;
+import gomedic.model.tag.Tag;
+import gomedic.model.util.AllOfPredicate;
+import gomedic.model.util.BitmapIndex;
+import gomedic.model.util.DepartmentContainsKeywordsPredicate;
+import gomedic.model.util.KeywordIndex;
+import gomedic.model.util.MedicalConditionContainsKeywordsPredicate;
+import gomedic.model.util.NameContainsKeywordsPredicate;
+import gomedic.model.util.NotPredicate;
 import gomedic.testutil.modelbuilder.DoctorBuilder;
+import gomedic.testutil.modelbuilder.PatientBuilder;
+import javafx.collections.ObservableList;
 
 class UniquePersonListTest {
     private final UniquePersonList<Doctor> uniquePersonList = new UniquePersonList<>();
@@ -55,6 +70,27 @@ class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedMainDoctor));
     }
 
+    @Test
+    public void getById_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.getById(MAIN_DOCTOR.getId()));
+    }
+
+    @Test
+    public void getById_afterEditAndRemove_indexUpdated() {
+        uniquePersonList.add(MAIN_DOCTOR);
+        assertEquals(Optional.of(MAIN_DOCTOR), uniquePersonList.getById(MAIN_DOCTOR.getId()));
+
+        uniquePersonList.setPerson(MAIN_DOCTOR, OTHER_DOCTOR);
+        assertEquals(Optional.empty(), uniquePersonList.getById(MAIN_DOCTOR.getId()));
+        assertEquals(Optional.of(OTHER_DOCTOR), uniquePersonList.getById(OTHER_DOCTOR.getId()));
+
+        uniquePersonList.remove(OTHER_DOCTOR);
+        assertEquals(Optional.empty(), uniquePersonList.getById(OTHER_DOCTOR.getId()));
+
+        uniquePersonList.setPersons(List.of(MAIN_DOCTOR));
+        assertEquals(Optional.of(MAIN_DOCTOR), uniquePersonList.getById(MAIN_DOCTOR.getId()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -174,6 +210,33 @@ class UniquePersonListTest {
                 DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_listUnchanged() {
+        uniquePersonList.add(OTHER_DOCTOR);
+        Doctor editedMainDoctor = new DoctorBuilder(MAIN_DOCTOR).withName("Smith Joe").build();
+        List<Doctor> listWithDuplicatePersons = Arrays.asList(MAIN_DOCTOR, OTHER_DOCTOR, editedMainDoctor);
+        assertThrows(
+                DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+
+        UniquePersonList<Doctor> expectedUniquePersonList = new UniquePersonList<>();
+        expectedUniquePersonList.add(OTHER_DOCTOR);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(MAIN_DOCTOR));
+    }
+
+    @Test
+    public void asUnmodifiableSortedByIdObservableList_afterChanges_sameViewKeptSorted() {
+        ObservableList<Doctor> sortedView = uniquePersonList.asUnmodifiableSortedByIdObservableList();
+        uniquePersonList.add(OTHER_DOCTOR);
+        uniquePersonList.add(MAIN_DOCTOR);
+
+        assertSame(sortedView, uniquePersonList.asUnmodifiableSortedByIdObservableList());
+        assertEquals(List.of(MAIN_DOCTOR, OTHER_DOCTOR), sortedView);
+
+        uniquePersonList.remove(MAIN_DOCTOR);
+        assertEquals(List.of(OTHER_DOCTOR), sortedView);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(
@@ -188,23 +251,14 @@ class UniquePersonListTest {
     }
 
     @Test
-    void hasNewId_oneLessThanMaxCapacity_returnsTrue() {
-        for (int i = 1; i < Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
+    void hasNewId_moreThanThreeDigitIds_returnsTrue() {
+        for (int i = 1; i <= 1000; i++) {
             Doctor toAdd = new DoctorBuilder().withId(i).build();
             uniquePersonList.add(toAdd);
         }
         assertTrue(uniquePersonList.hasNewId());
     }
 
-    @Test
-    void hasNewId_listAtMaxCapacity_returnsFalse() {
-        for (int i = 1; i <= Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
-            Doctor toAdd = new DoctorBuilder().withId(i).build();
-            uniquePersonList.add(toAdd);
-        }
-        assertFalse(uniquePersonList.hasNewId());
-    }
-
     @Test
     void getNewId_emptyList_returns1() {
         assertEquals(1, uniquePersonList.getNewId());
@@ -235,22 +289,55 @@ class UniquePersonListTest {
     }
 
     @Test
-    void getNewId_listContainsOneLessThanMax_returnsMax() {
-        for (int i = 1; i < Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
+    void getNewId_allThreeDigitIdsTaken_returnsFourDigitId() {
+        for (int i = 1; i <= 999; i++) {
             Doctor toAdd = new DoctorBuilder().withId(i).build();
             uniquePersonList.add(toAdd);
         }
 
-        assertEquals(Id.MAXIMUM_ASSIGNABLE_IDS, uniquePersonList.getNewId());
+        assertEquals(1000, uniquePersonList.getNewId());
     }
 
     @Test
-    void getNewId_listContainsMax_throwsMaxAddressBookCapacityReached() {
-        for (int i = 1; i <= Id.MAXIMUM_ASSIGNABLE_IDS; i++) {
-            Doctor toAdd = new DoctorBuilder().withId(i).build();
-            uniquePersonList.add(toAdd);
-        }
+    public void resolve_indexedList_sameResultsAsPredicate() {
+        UniquePersonList<Doctor> indexedList = new UniquePersonList<>(List.of(new KeywordIndex<>(
+                Map.<KeywordIndex.Field, Function<? super Doctor, String>>of(
+                        KeywordIndex.Field.NAME, NameContainsKeywordsPredicate::getSearchedText,
+                        KeywordIndex.Field.DEPARTMENT, DepartmentContainsKeywordsPredicate::getSearchedText))));
+        Doctor editedOtherDoctor = new DoctorBuilder(OTHER_DOCTOR).withDepartment("Cardiology").build();
+        indexedList.setPersons(List.of(MAIN_DOCTOR, OTHER_DOCTOR));
+        Predicate<Doctor> predicate = new AllOfPredicate<>(List.of(
+                new NotPredicate<>(new NameContainsKeywordsPredicate<Doctor>(List.of("nobody"))),
+                new DepartmentContainsKeywordsPredicate<Doctor>(List.of("cardio"))));
+
+        Predicate<Doctor> resolvedPredicate = indexedList.resolve(predicate);
+        assertFalse(resolvedPredicate.test(MAIN_DOCTOR));
+        assertFalse(resolvedPredicate.test(OTHER_DOCTOR));
+
+        // persons changed after the predicate was resolved are tested directly
+        indexedList.setPerson(OTHER_DOCTOR, editedOtherDoctor);
+        assertTrue(resolvedPredicate.test(editedOtherDoctor));
+        assertTrue(indexedList.resolve(predicate).test(editedOtherDoctor));
+    }
 
-        assertThrows(MaxAddressBookCapacityReached.class, uniquePersonList::getNewId);
+    @Test
+    public void setPersonAndRemove_wordRepeatedInBitmapIndexedField_success() {
+        UniquePersonList<Patient> indexedList = new UniquePersonList<>(List.of(new BitmapIndex<>(
+                Map.<KeywordIndex.Field, Function<? super Patient, String>>of(KeywordIndex.Field.MEDICAL_CONDITION,
+                        MedicalConditionContainsKeywordsPredicate::getSearchedText))));
+        // the text of the medical conditions repeats the word "disease],"
+        Patient patient = new PatientBuilder().withMedicalConditions(Set.of(new Tag("heart disease"),
+                new Tag("lung disease"), new Tag("kidney disease"))).withId(1).build();
+        Patient editedPatient = new PatientBuilder(patient).withMedicalConditions(Set.of(new Tag("lung disease"),
+                new Tag("kidney disease"))).build();
+        Predicate<Patient> predicate = new MedicalConditionContainsKeywordsPredicate<>(List.of("disease"));
+        indexedList.add(patient);
+
+        indexedList.setPerson(patient, editedPatient);
+        assertTrue(indexedList.resolve(predicate).test(editedPatient));
+
+        indexedList.remove(editedPatient);
+        assertFalse(indexedList.contains(editedPatient));
+        assertFalse(indexedList.resolve(predicate).test(editedPatient));
     }
 }
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import gomedic.model.commonfield.Id;
 import gomedic.model.commonfield.IdTest;
 
 public class PatientIdTest {
@@ -19,7 +20,7 @@ public class PatientIdTest {
 
     @Test
     public void constructor_invalidNumber_throwsIllegalArgumentException() {
-        assertThrows(IllegalArgumentException.class, () -> new PatientId(1000));
+        assertThrows(IllegalArgumentException.class, () -> new PatientId(Id.MAXIMUM_ASSIGNABLE_IDS + 1));
     }
 
     @Test
@@ -0,0 +1,43 @@
+package gomedic.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.person.patient.Patient;
+import gomedic.testutil.modelbuilder.PatientBuilder;
+
+public class AllOfPredicateTest {
+
+    private final Predicate<Patient> alice = new NameContainsKeywordsPredicate<>(List.of("alice"));
+    private final Predicate<Patient> bloodTypeO = new BloodTypeContainsKeywordsPredicate<>(List.of("O+"));
+
+    @Test
+    public void equals() {
+        AllOfPredicate<Patient> predicate = new AllOfPredicate<>(List.of(alice, bloodTypeO));
+
+        assertEquals(predicate, predicate);
+        assertEquals(new AllOfPredicate<>(List.of(alice, bloodTypeO)), predicate);
+        assertNotEquals(new AllOfPredicate<>(List.of(alice)), predicate);
+        assertNotEquals(new AnyOfPredicate<>(List.of(alice, bloodTypeO)), predicate);
+        assertNotEquals(predicate, null);
+    }
+
+    @Test
+    public void test() {
+        AllOfPredicate<Patient> predicate = new AllOfPredicate<>(List.of(alice, bloodTypeO));
+
+        assertTrue(predicate.test(new PatientBuilder().withName("Alice").withBloodType("O+").build()));
+        assertFalse(predicate.test(new PatientBuilder().withName("Alice").withBloodType("A+").build()));
+        assertFalse(predicate.test(new PatientBuilder().withName("Bob").withBloodType("O+").build()));
+
+        // no predicates -> matches everything
+        assertTrue(new AllOfPredicate<Patient>(List.of()).test(new PatientBuilder().build()));
+    }
+}
@@ -0,0 +1,43 @@
+package gomedic.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.person.patient.Patient;
+import gomedic.testutil.modelbuilder.PatientBuilder;
+
+public class AnyOfPredicateTest {
+
+    private final Predicate<Patient> alice = new NameContainsKeywordsPredicate<>(List.of("alice"));
+    private final Predicate<Patient> bloodTypeO = new BloodTypeContainsKeywordsPredicate<>(List.of("O+"));
+
+    @Test
+    public void equals() {
+        AnyOfPredicate<Patient> predicate = new AnyOfPredicate<>(List.of(alice, bloodTypeO));
+
+        assertEquals(predicate, predicate);
+        assertEquals(new AnyOfPredicate<>(List.of(alice, bloodTypeO)), predicate);
+        assertNotEquals(new AnyOfPredicate<>(List.of(bloodTypeO)), predicate);
+        assertNotEquals(new AllOfPredicate<>(List.of(alice, bloodTypeO)), predicate);
+        assertNotEquals(predicate, null);
+    }
+
+    @Test
+    public void test() {
+        AnyOfPredicate<Patient> predicate = new AnyOfPredicate<>(List.of(alice, bloodTypeO));
+
+        assertTrue(predicate.test(new PatientBuilder().withName("Alice").withBloodType("A+").build()));
+        assertTrue(predicate.test(new PatientBuilder().withName("Bob").withBloodType("O+").build()));
+        assertFalse(predicate.test(new PatientBuilder().withName("Bob").withBloodType("A+").build()));
+
+        // no predicates -> matches nothing
+        assertFalse(new AnyOfPredicate<Patient>(List.of()).test(new PatientBuilder().build()));
+    }
+}
@@ -0,0 +1,118 @@
+package gomedic.model.util;
+
+import static gomedic.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.person.patient.Patient;
+import gomedic.model.tag.Tag;
+import gomedic.testutil.modelbuilder.PatientBuilder;
+
+public class BitmapIndexTest {
+
+    private static final Patient DIABETIC_PATIENT = new PatientBuilder().withBloodType("O+").withGender("M")
+            .withMedicalConditions(Set.of(new Tag("diabetes"))).withId(1).build();
+    private static final Patient ASTHMATIC_PATIENT = new PatientBuilder().withBloodType("O-").withGender("F")
+            .withMedicalConditions(Set.of(new Tag("diabetes"), new Tag("asthma"))).withId(2).build();
+    private static final Patient HEALTHY_PATIENT = new PatientBuilder().withBloodType("AB+").withGender("M")
+            .withId(3).build();
+    private static final Patient HEART_PATIENT = new PatientBuilder().withBloodType("O+").withGender("F")
+            .withMedicalConditions(Set.of(new Tag("heart failure"))).withId(4).build();
+    private static final List<Patient> PATIENTS =
+            List.of(DIABETIC_PATIENT, ASTHMATIC_PATIENT, HEALTHY_PATIENT, HEART_PATIENT);
+
+    private BitmapIndex<Patient> bitmapIndex;
+
+    @BeforeEach
+    public void setUp() {
+        bitmapIndex = new BitmapIndex<>(Map.<KeywordIndex.Field, Function<? super Patient, String>>of(
+                KeywordIndex.Field.BLOOD_TYPE, BloodTypeContainsKeywordsPredicate::getSearchedText,
+                KeywordIndex.Field.GENDER, GenderContainsKeywordsPredicate::getSearchedText,
+                KeywordIndex.Field.MEDICAL_CONDITION, MedicalConditionContainsKeywordsPredicate::getSearchedText));
+        bitmapIndex.setAll(PATIENTS);
+    }
+
+    @Test
+    public void resolve_combinedPredicates_sameResultsAsPredicate() {
+        Predicate<Patient> bloodTypeO = new BloodTypeContainsKeywordsPredicate<>(List.of("O+"));
+        Predicate<Patient> diabetes = new MedicalConditionContainsKeywordsPredicate<>(List.of("diabetes"));
+        Predicate<Patient> female = new GenderContainsKeywordsPredicate<>(List.of("f"));
+
+        for (Predicate<Patient> predicate : List.of(bloodTypeO, diabetes,
+                new AllOfPredicate<>(List.of(bloodTypeO, diabetes)),
+                new AnyOfPredicate<>(List.of(bloodTypeO, diabetes)),
+                new AllOfPredicate<>(List.of(female, new AnyOfPredicate<>(List.of(bloodTypeO, diabetes)))),
+                new AllOfPredicate<Patient>(List.of()))) {
+            assertTrue(bitmapIndex.canResolve(predicate));
+            Predicate<Patient> resolvedPredicate = bitmapIndex.resolve(predicate);
+            Set<Patient> expected = PATIENTS.stream().filter(predicate).collect(Collectors.toSet());
+
+            assertEquals(expected, PATIENTS.stream().filter(resolvedPredicate).collect(Collectors.toSet()));
+            assertEquals(expected.size(), bitmapIndex.countMatches(predicate));
+        }
+    }
+
+    @Test
+    public void canResolve_fieldNotKept_returnsFalse() {
+        Predicate<Patient> name = new NameContainsKeywordsPredicate<>(List.of("alice"));
+        Predicate<Patient> bloodType = new BloodTypeContainsKeywordsPredicate<>(List.of("O+"));
+
+        assertFalse(bitmapIndex.canResolve(name));
+        assertFalse(bitmapIndex.canResolve(new AllOfPredicate<>(List.of(name, bloodType))));
+        assertThrows(IllegalArgumentException.class, () -> bitmapIndex.countMatches(name));
+    }
+
+    @Test
+    public void countMatches_afterAddAndRemove_updated() {
+        Predicate<Patient> diabetes = new MedicalConditionContainsKeywordsPredicate<>(List.of("diabetes"));
+
+        bitmapIndex.remove(DIABETIC_PATIENT);
+        assertEquals(1, bitmapIndex.countMatches(diabetes));
+
+        // the slot freed by the removed patient is reused
+        Patient newPatient = new PatientBuilder().withBloodType("B+")
+                .withMedicalConditions(Set.of(new Tag("diabetes"))).withId(5).build();
+        bitmapIndex.add(newPatient);
+        assertEquals(2, bitmapIndex.countMatches(diabetes));
+        assertEquals(1, bitmapIndex.countMatches(new AllOfPredicate<>(
+                List.of(diabetes, new BloodTypeContainsKeywordsPredicate<Patient>(List.of("B+"))))));
+    }
+
+    @Test
+    public void remove_wordRepeatedInText_removed() {
+        // the text of the medical conditions repeats the word "disease],"
+        Patient patient = new PatientBuilder().withMedicalConditions(Set.of(new Tag("heart disease"),
+                new Tag("lung disease"), new Tag("kidney disease"))).withId(5).build();
+        Predicate<Patient> disease = new MedicalConditionContainsKeywordsPredicate<>(List.of("disease"));
+
+        bitmapIndex.add(patient);
+        assertEquals(1, bitmapIndex.countMatches(disease));
+        bitmapIndex.remove(patient);
+        assertEquals(0, bitmapIndex.countMatches(disease));
+
+        // the freed slot is reused without keeping any word of the removed patient
+        bitmapIndex.add(new PatientBuilder().withId(6).build());
+        assertEquals(0, bitmapIndex.countMatches(disease));
+    }
+
+    @Test
+    public void resolve_indexChangedAfterwards_testsItemsDirectly() {
+        Predicate<Patient> resolvedPredicate =
+                bitmapIndex.resolve(new BloodTypeContainsKeywordsPredicate<>(List.of("B-")));
+        Patient newPatient = new PatientBuilder().withBloodType("B-").withId(5).build();
+
+        bitmapIndex.add(newPatient);
+        assertTrue(resolvedPredicate.test(newPatient));
+    }
+}
@@ -0,0 +1,104 @@
+package gomedic.model.util;
+
+import static gomedic.testutil.Assert.assertThrows;
+import static gomedic.testutil.TypicalPersons.MAIN_DOCTOR;
+import static gomedic.testutil.TypicalPersons.OTHER_DOCTOR;
+import static gomedic.testutil.TypicalPersons.THIRD_DOCTOR;
+import static gomedic.testutil.TypicalPersons.getTypicalDoctors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.person.doctor.Doctor;
+import gomedic.testutil.modelbuilder.DoctorBuilder;
+
+public class KeywordIndexTest {
+
+    private KeywordIndex<Doctor> keywordIndex;
+
+    @BeforeEach
+    public void setUp() {
+        keywordIndex = new KeywordIndex<>(Map.<KeywordIndex.Field, Function<? super Doctor, String>>of(
+                KeywordIndex.Field.NAME, NameContainsKeywordsPredicate::getSearchedText,
+                KeywordIndex.Field.DEPARTMENT, DepartmentContainsKeywordsPredicate::getSearchedText));
+        keywordIndex.setAll(getTypicalDoctors());
+    }
+
+    @Test
+    public void getMatches_sameAsPredicate() {
+        for (List<String> keywords : List.of(List.of("smith"), List.of("JOHN", "lol"), List.of("mit"),
+                List.of("ENT"), List.of("nobody"), List.<String>of())) {
+            Set<Doctor> expected = getTypicalDoctors().stream()
+                    .filter(new NameContainsKeywordsPredicate<>(keywords))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, keywordIndex.getMatches(KeywordIndex.Field.NAME, keywords));
+        }
+    }
+
+    @Test
+    public void getMatches_fieldNotKept_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                keywordIndex.getMatches(KeywordIndex.Field.PHONE, List.of("7777")));
+    }
+
+    @Test
+    public void getMatches_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                keywordIndex.getMatches(KeywordIndex.Field.NAME, List.of("two words")));
+    }
+
+    @Test
+    public void getMatches_afterAddAndRemove_updated() {
+        Doctor newDoctor = new DoctorBuilder().withName("Jane Smithers").withId(9).build();
+        keywordIndex.add(newDoctor);
+        assertEquals(Set.of(OTHER_DOCTOR, THIRD_DOCTOR, newDoctor),
+                keywordIndex.getMatches(KeywordIndex.Field.NAME, List.of("smith")));
+
+        keywordIndex.remove(OTHER_DOCTOR);
+        assertEquals(Set.of(THIRD_DOCTOR, newDoctor),
+                keywordIndex.getMatches(KeywordIndex.Field.NAME, List.of("smith")));
+        assertEquals(Set.of(MAIN_DOCTOR), keywordIndex.getMatches(KeywordIndex.Field.NAME, List.of("john")));
+    }
+
+    @Test
+    public void resolve_indexedField_sameResultsAsPredicate() {
+        NameContainsKeywordsPredicate<Doctor> predicate = new NameContainsKeywordsPredicate<>(List.of("smith"));
+        Predicate<Doctor> resolvedPredicate = keywordIndex.resolve(predicate);
+
+        for (Doctor doctor : getTypicalDoctors()) {
+            assertEquals(predicate.test(doctor), resolvedPredicate.test(doctor));
+        }
+    }
+
+    @Test
+    public void resolve_indexChangedAfterwards_testsItemsDirectly() {
+        Predicate<Doctor> resolvedPredicate =
+                keywordIndex.resolve(new NameContainsKeywordsPredicate<>(List.of("smith")));
+        Doctor newDoctor = new DoctorBuilder().withName("Will Smith").withId(9).build();
+        assertFalse(resolvedPredicate.test(newDoctor));
+
+        keywordIndex.add(newDoctor);
+        assertTrue(resolvedPredicate.test(newDoctor));
+    }
+
+    @Test
+    public void resolve_fieldNotKept_sameResultsAsPredicate() {
+        PhoneNumberContainsKeywordsPredicate<Doctor> predicate =
+                new PhoneNumberContainsKeywordsPredicate<>(List.of("7777"));
+        Predicate<Doctor> resolvedPredicate = keywordIndex.resolve(predicate);
+
+        for (Doctor doctor : getTypicalDoctors()) {
+            assertEquals(predicate.test(doctor), resolvedPredicate.test(doctor));
+        }
+    }
+}
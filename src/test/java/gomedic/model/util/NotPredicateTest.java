@@ -0,0 +1,38 @@
+package gomedic.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.person.patient.Patient;
+import gomedic.testutil.modelbuilder.PatientBuilder;
+
+public class NotPredicateTest {
+
+    private final Predicate<Patient> alice = new NameContainsKeywordsPredicate<>(List.of("alice"));
+
+    @Test
+    public void equals() {
+        NotPredicate<Patient> predicate = new NotPredicate<>(alice);
+
+        assertEquals(predicate, predicate);
+        assertEquals(new NotPredicate<>(alice), predicate);
+        assertNotEquals(new NotPredicate<>(new NameContainsKeywordsPredicate<Patient>(List.of("bob"))), predicate);
+        assertNotEquals(alice, predicate);
+        assertNotEquals(predicate, null);
+    }
+
+    @Test
+    public void test() {
+        NotPredicate<Patient> predicate = new NotPredicate<>(alice);
+
+        assertFalse(predicate.test(new PatientBuilder().withName("Alice").build()));
+        assertTrue(predicate.test(new PatientBuilder().withName("Bob").build()));
+    }
+}
@@ -0,0 +1,41 @@
+package gomedic.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.person.patient.Patient;
+import gomedic.testutil.modelbuilder.PatientBuilder;
+
+public class NumericRangePredicateTest {
+
+    private final List<NumericRange> sixtiesRange = List.of(new NumericRange("60-69"));
+
+    @Test
+    public void equals() {
+        NumericRangePredicate<Patient> predicate = new NumericRangePredicate<>(RangeIndex.Field.AGE, sixtiesRange);
+        NumericRangePredicate<Patient> predicateCopy =
+                new NumericRangePredicate<>(RangeIndex.Field.AGE, List.of(new NumericRange("60-69")));
+
+        assertEquals(predicate, predicate);
+        assertEquals(predicateCopy, predicate);
+        assertEquals(predicateCopy.hashCode(), predicate.hashCode());
+        assertNotEquals(new NumericRangePredicate<Patient>(RangeIndex.Field.WEIGHT, sixtiesRange), predicate);
+        assertNotEquals(new NumericRangePredicate<Patient>(RangeIndex.Field.AGE,
+                List.of(new NumericRange(">=60"))), predicate);
+        assertNotEquals(predicate, null);
+    }
+
+    @Test
+    public void test() {
+        NumericRangePredicate<Patient> predicate = new NumericRangePredicate<>(RangeIndex.Field.AGE, sixtiesRange);
+
+        assertTrue(predicate.test(new PatientBuilder().withAge("65").build()));
+        assertFalse(predicate.test(new PatientBuilder().withAge("70").build()));
+    }
+}
@@ -0,0 +1,71 @@
+package gomedic.model.util;
+
+import static gomedic.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class NumericRangeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NumericRange(null));
+    }
+
+    @Test
+    public void constructor_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NumericRange("80-60"));
+    }
+
+    @Test
+    public void isValidNumericRange() {
+        // invalid ranges
+        assertFalse(NumericRange.isValidNumericRange("")); // empty string
+        assertFalse(NumericRange.isValidNumericRange("abc")); // not a number
+        assertFalse(NumericRange.isValidNumericRange("60-")); // missing max
+        assertFalse(NumericRange.isValidNumericRange("-60")); // missing min
+        assertFalse(NumericRange.isValidNumericRange("80-60")); // min larger than max
+        assertFalse(NumericRange.isValidNumericRange("=>60")); // unknown operator
+        assertFalse(NumericRange.isValidNumericRange("1234567890")); // too many digits
+
+        // valid ranges
+        assertTrue(NumericRange.isValidNumericRange("60-80"));
+        assertTrue(NumericRange.isValidNumericRange("60-60"));
+        assertTrue(NumericRange.isValidNumericRange(">170"));
+        assertTrue(NumericRange.isValidNumericRange(">=170"));
+        assertTrue(NumericRange.isValidNumericRange("<50"));
+        assertTrue(NumericRange.isValidNumericRange("<=50"));
+        assertTrue(NumericRange.isValidNumericRange("42"));
+    }
+
+    @Test
+    public void contains() {
+        NumericRange between = new NumericRange("60-80");
+        assertFalse(between.contains(59));
+        assertTrue(between.contains(60));
+        assertTrue(between.contains(80));
+        assertFalse(between.contains(81));
+
+        assertFalse(new NumericRange(">170").contains(170));
+        assertTrue(new NumericRange(">170").contains(171));
+        assertTrue(new NumericRange(">=170").contains(170));
+        assertFalse(new NumericRange("<50").contains(50));
+        assertTrue(new NumericRange("<=50").contains(50));
+        assertTrue(new NumericRange("42").contains(42));
+        assertFalse(new NumericRange("42").contains(420));
+    }
+
+    @Test
+    public void equals() {
+        NumericRange range = new NumericRange(">=60");
+
+        assertEquals(range, range);
+        assertEquals(new NumericRange(">59"), range);
+        assertNotEquals(new NumericRange(">60"), range);
+        assertNotEquals(range, null);
+        assertNotEquals(range, 60);
+    }
+}
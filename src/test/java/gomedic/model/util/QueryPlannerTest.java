@@ -0,0 +1,161 @@
+package gomedic.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.person.patient.Patient;
+import gomedic.model.tag.Tag;
+import gomedic.testutil.modelbuilder.PatientBuilder;
+
+public class QueryPlannerTest {
+
+    private static final String[] NAMES = {"Alice", "Bob", "Carol", "Dave", "Eve"};
+    private static final String[] BLOOD_TYPES = {"O+", "O-", "A+", "AB+"};
+    private static final String[] MEDICAL_CONDITIONS = {"diabetes", "asthma", "heart failure"};
+
+    private final Predicate<Patient> alice = new NameContainsKeywordsPredicate<>(List.of("alice"));
+    private final Predicate<Patient> bloodTypeO = new BloodTypeContainsKeywordsPredicate<>(List.of("O"));
+    private final Predicate<Patient> diabetes = new MedicalConditionContainsKeywordsPredicate<>(List.of("diab"));
+    private final Predicate<Patient> elderly = new NumericRangePredicate<>(RangeIndex.Field.AGE,
+            List.of(new NumericRange(">=60")));
+    // phone numbers are not kept in any of the indexes below
+    private final Predicate<Patient> phone = new PhoneNumberContainsKeywordsPredicate<>(List.of("1"));
+
+    private List<Patient> patients;
+    private CountingSearchIndex bitmapIndex;
+    private QueryPlanner<Patient> queryPlanner;
+
+    @BeforeEach
+    public void setUp() {
+        patients = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            patients.add(new PatientBuilder()
+                    .withName(NAMES[i % NAMES.length] + " " + i)
+                    .withPhone(String.format("%08d", i * 7919 % 100000000))
+                    .withAge(String.valueOf(i % 100))
+                    .withBloodType(BLOOD_TYPES[i % BLOOD_TYPES.length])
+                    .withMedicalConditions(Set.of(new Tag(MEDICAL_CONDITIONS[i % MEDICAL_CONDITIONS.length])))
+                    .withId(i + 1)
+                    .build());
+        }
+
+        KeywordIndex<Patient> keywordIndex = new KeywordIndex<>(
+                Map.<KeywordIndex.Field, Function<? super Patient, String>>of(
+                        KeywordIndex.Field.NAME, NameContainsKeywordsPredicate::getSearchedText));
+        bitmapIndex = new CountingSearchIndex(new BitmapIndex<>(
+                Map.<KeywordIndex.Field, Function<? super Patient, String>>of(
+                        KeywordIndex.Field.BLOOD_TYPE, BloodTypeContainsKeywordsPredicate::getSearchedText,
+                        KeywordIndex.Field.MEDICAL_CONDITION,
+                        MedicalConditionContainsKeywordsPredicate::getSearchedText)));
+        RangeIndex<Patient> rangeIndex = new RangeIndex<>(Map.<RangeIndex.Field, ToIntFunction<? super Patient>>of(
+                RangeIndex.Field.AGE, patient -> NumericRangePredicate.getSearchedValue(RangeIndex.Field.AGE, patient)
+        ));
+        List<SearchIndex<Patient>> searchIndexes = List.of(keywordIndex, bitmapIndex, rangeIndex);
+        searchIndexes.forEach(searchIndex -> searchIndex.setAll(patients));
+        queryPlanner = new QueryPlanner<>(searchIndexes);
+    }
+
+    @Test
+    public void getMatches_indexedPredicates_sameAsPredicate() {
+        for (Predicate<Patient> predicate : List.of(alice, elderly,
+                new AllOfPredicate<>(List.of(alice, bloodTypeO, elderly)),
+                new AnyOfPredicate<>(List.of(alice, elderly)),
+                new NotPredicate<>(alice),
+                new AllOfPredicate<>(List.of(bloodTypeO, new NotPredicate<>(diabetes))),
+                new AnyOfPredicate<>(List.of(new AllOfPredicate<>(List.of(alice, diabetes)), new NotPredicate<>(
+                        new AnyOfPredicate<>(List.of(bloodTypeO, elderly))))),
+                new AllOfPredicate<>(List.of(elderly, phone)),
+                new AllOfPredicate<>(List.of(phone, new AnyOfPredicate<>(List.of(alice, diabetes)))))) {
+            assertMatches(predicate);
+        }
+    }
+
+    @Test
+    public void getMatches_unindexedPredicates_empty() {
+        for (Predicate<Patient> predicate : List.of(phone,
+                new AllOfPredicate<>(List.of(phone, new NotPredicate<>(phone))),
+                new AnyOfPredicate<>(List.of(alice, phone)),
+                new NotPredicate<>(phone))) {
+            assertEquals(Optional.empty(), queryPlanner.getMatches(predicate, patients));
+        }
+    }
+
+    @Test
+    public void getMatches_selectiveChildFirst_othersTestedOnItsMatches() {
+        Predicate<Patient> singlePatient = new NameContainsKeywordsPredicate<>(List.of("123"));
+
+        assertMatches(new AllOfPredicate<>(List.of(bloodTypeO, diabetes, singlePatient)));
+        // the single match of the name is tested for blood type and diabetes instead of looking them up
+        assertEquals(0, bitmapIndex.lookUpCount);
+    }
+
+    private void assertMatches(Predicate<Patient> predicate) {
+        Set<Patient> expected = patients.stream().filter(predicate).collect(Collectors.toSet());
+        Optional<Set<Patient>> matches = queryPlanner.getMatches(predicate, patients);
+
+        assertTrue(matches.isPresent());
+        assertEquals(expected, matches.get());
+    }
+
+    /**
+     * A search index that counts the number of times its matches are looked up.
+     */
+    private static class CountingSearchIndex implements SearchIndex<Patient> {
+        private final SearchIndex<Patient> searchIndex;
+        private int lookUpCount;
+
+        CountingSearchIndex(SearchIndex<Patient> searchIndex) {
+            this.searchIndex = searchIndex;
+        }
+
+        @Override
+        public void add(Patient item) {
+            searchIndex.add(item);
+        }
+
+        @Override
+        public void remove(Patient item) {
+            searchIndex.remove(item);
+        }
+
+        @Override
+        public void setAll(Collection<? extends Patient> items) {
+            searchIndex.setAll(items);
+        }
+
+        @Override
+        public boolean canResolve(Predicate<?> predicate) {
+            return searchIndex.canResolve(predicate);
+        }
+
+        @Override
+        public Set<Patient> getMatches(Predicate<?> predicate) {
+            lookUpCount++;
+            return searchIndex.getMatches(predicate);
+        }
+
+        @Override
+        public int estimateMatches(Predicate<?> predicate) {
+            return searchIndex.estimateMatches(predicate);
+        }
+
+        @Override
+        public Predicate<Patient> resolve(Predicate<? super Patient> predicate) {
+            return searchIndex.resolve(predicate);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package gomedic.model.util;
+
+import static gomedic.testutil.Assert.assertThrows;
+import static gomedic.testutil.TypicalPersons.getTypicalPatients;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.person.patient.Patient;
+import gomedic.testutil.modelbuilder.PatientBuilder;
+
+public class RangeIndexTest {
+
+    private RangeIndex<Patient> rangeIndex;
+
+    @BeforeEach
+    public void setUp() {
+        rangeIndex = new RangeIndex<>(Map.<RangeIndex.Field, ToIntFunction<? super Patient>>of(
+                RangeIndex.Field.AGE, patient ->
+                        NumericRangePredicate.getSearchedValue(RangeIndex.Field.AGE, patient)));
+        rangeIndex.setAll(getTypicalPatients());
+    }
+
+    @Test
+    public void getMatches_sameAsPredicate() {
+        for (String range : List.of("30-40", ">30", ">=35", "<35", "<=35", "35", "200-300")) {
+            List<NumericRange> ranges = List.of(new NumericRange(range));
+            Set<Patient> expected = getTypicalPatients().stream()
+                    .filter(new NumericRangePredicate<>(RangeIndex.Field.AGE, ranges))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, rangeIndex.getMatches(RangeIndex.Field.AGE, ranges));
+        }
+    }
+
+    @Test
+    public void getMatches_fieldNotKept_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                rangeIndex.getMatches(RangeIndex.Field.HEIGHT, List.of(new NumericRange(">170"))));
+    }
+
+    @Test
+    public void getMatches_afterAddAndRemove_updated() {
+        List<NumericRange> ranges = List.of(new NumericRange("60-80"));
+        Patient newPatient = new PatientBuilder().withAge("70").withId(9).build();
+        rangeIndex.add(newPatient);
+        assertEquals(Set.of(newPatient), rangeIndex.getMatches(RangeIndex.Field.AGE, ranges));
+
+        rangeIndex.remove(newPatient);
+        assertEquals(Set.of(), rangeIndex.getMatches(RangeIndex.Field.AGE, ranges));
+    }
+
+    @Test
+    public void resolve_indexChangedAfterwards_testsItemsDirectly() {
+        Predicate<Patient> resolvedPredicate = rangeIndex.resolve(
+                new NumericRangePredicate<>(RangeIndex.Field.AGE, List.of(new NumericRange(">100"))));
+        Patient newPatient = new PatientBuilder().withAge("101").withId(9).build();
+
+        rangeIndex.add(newPatient);
+        assertTrue(resolvedPredicate.test(newPatient));
+    }
+}
@@ -0,0 +1,67 @@
+package gomedic.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private static final String ALPHABET = "abcde";
+
+    @Test
+    public void getWordsContaining_sameAsComparingEveryWord() {
+        Random random = new Random(2103);
+        Set<String> words = new HashSet<>();
+        for (int i = 0; i < 2000; i++) {
+            words.add(randomWord(random, 1 + random.nextInt(8)));
+        }
+        TrigramIndex trigramIndex = new TrigramIndex();
+        words.forEach(trigramIndex::add);
+
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomWord(random, 1 + random.nextInt(5));
+            Set<String> expected = words.stream().filter(word -> word.contains(keyword)).collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(trigramIndex.getWordsContaining(keyword)));
+        }
+    }
+
+    @Test
+    public void getWordsContaining_afterRemove_wordNotFound() {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.add("smith");
+        trigramIndex.add("smithers");
+        trigramIndex.add("smithers");
+
+        trigramIndex.remove("smith");
+        assertEquals(List.of("smithers"), trigramIndex.getWordsContaining("mit"));
+        assertEquals(List.of("smithers"), trigramIndex.getWordsContaining("s"));
+
+        trigramIndex.remove("smithers");
+        assertEquals(List.of(), trigramIndex.getWordsContaining("mit"));
+        assertEquals(List.of(), trigramIndex.getWordsContaining("s"));
+    }
+
+    @Test
+    public void getWordsContaining_keywordLongerThanWords_noWordFound() {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.add("ab");
+        trigramIndex.add("abc");
+
+        assertEquals(List.of(), trigramIndex.getWordsContaining("abcd"));
+        assertEquals(List.of("abc"), trigramIndex.getWordsContaining("abc"));
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,196 @@
+package gomedic.storage;
+
+import static gomedic.testutil.TypicalPersons.MAIN_DOCTOR;
+import static gomedic.testutil.TypicalPersons.MAIN_PATIENT;
+import static gomedic.testutil.TypicalUserProfile.OTHER_PROFILE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import gomedic.model.AddressBook;
+import gomedic.model.DataType;
+import gomedic.model.ReadOnlyAddressBook;
+import gomedic.testutil.Assert;
+
+public class AddressBookSaverTest {
+    private final AddressBookStorageStub storage = new AddressBookStorageStub();
+    private final List<Runnable> scheduledSaves = new ArrayList<>();
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new AddressBookSaver(null));
+    }
+
+    @Test
+    public void save_directExecutor_savedImmediately() {
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addDoctor(MAIN_DOCTOR);
+
+        saver.save(addressBook);
+        assertEquals(List.of(addressBook), storage.getSavedCopies());
+        assertFalse(saver.pollFailure().isPresent());
+    }
+
+    @Test
+    public void save_addressBookChangedAfterSave_snapshotSaved() {
+        AddressBookSaver saver = new AddressBookSaver(storage, scheduledSaves::add);
+        AddressBook addressBook = new AddressBook();
+
+        saver.save(addressBook);
+        addressBook.addDoctor(MAIN_DOCTOR);
+        runScheduledSaves();
+
+        assertEquals(List.of(new AddressBook()), storage.getSavedCopies());
+    }
+
+    @Test
+    public void save_burstOfSaves_mergedIntoLatestCopy() {
+        AddressBookSaver saver = new AddressBookSaver(storage, scheduledSaves::add);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.markAsSaved();
+        addressBook.addDoctor(MAIN_DOCTOR);
+        saver.save(addressBook);
+        addressBook.markAsSaved();
+        addressBook.addPatient(MAIN_PATIENT);
+        saver.save(addressBook);
+        assertEquals(1, scheduledSaves.size());
+
+        runScheduledSaves();
+        assertEquals(List.of(addressBook), storage.getSavedCopies());
+        assertEquals(EnumSet.of(DataType.DOCTORS, DataType.PATIENTS),
+                storage.savedAddressBooks.get(0).getModifiedDataTypes());
+    }
+
+    @Test
+    public void save_storageFails_failureReportedOnceAndRetried() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run);
+        AddressBook addressBook = new AddressBook();
+        addressBook.markAsSaved();
+        addressBook.setUserProfile(OTHER_PROFILE);
+
+        storage.isFailing = true;
+        saver.save(addressBook);
+        assertTrue(saver.pollFailure().isPresent());
+        assertFalse(saver.pollFailure().isPresent());
+        Assert.assertThrows(IOException.class, saver::flush);
+
+        storage.isFailing = false;
+        saver.flush();
+        assertEquals(List.of(addressBook), storage.getSavedCopies());
+        assertEquals(EnumSet.of(DataType.USER_PROFILE), storage.savedAddressBooks.get(0).getModifiedDataTypes());
+
+        // nothing left to save
+        saver.flush();
+        assertEquals(1, storage.savedAddressBooks.size());
+    }
+
+    @Test
+    public void isSaved_saveScheduledOrFailed_returnsFalse() {
+        AddressBookSaver saver = new AddressBookSaver(storage, scheduledSaves::add);
+        AddressBook addressBook = new AddressBook();
+        assertTrue(saver.isSaved());
+
+        saver.save(addressBook);
+        assertFalse(saver.isSaved());
+        runScheduledSaves();
+        assertTrue(saver.isSaved());
+
+        storage.isFailing = true;
+        saver.save(addressBook);
+        runScheduledSaves();
+        assertFalse(saver.isSaved());
+    }
+
+    @Test
+    public void flush_backgroundThread_waitsForSave() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addDoctor(MAIN_DOCTOR);
+
+        saver.save(addressBook);
+        saver.flush();
+        List<AddressBook> savedCopies = storage.getSavedCopies();
+        assertEquals(addressBook, savedCopies.get(savedCopies.size() - 1));
+    }
+
+    @Test
+    public void flush_interruptedWhileSaveScheduled_throwsInterruptedIoException() {
+        AddressBookSaver saver = new AddressBookSaver(storage, scheduledSaves::add);
+        saver.save(new AddressBook());
+
+        Thread.currentThread().interrupt();
+        try {
+            Assert.assertThrows(InterruptedIOException.class, saver::flush);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        assertFalse(saver.isSaved());
+
+        runScheduledSaves();
+        assertEquals(List.of(new AddressBook()), storage.getSavedCopies());
+    }
+
+    private void runScheduledSaves() {
+        while (!scheduledSaves.isEmpty()) {
+            scheduledSaves.remove(0).run();
+        }
+    }
+
+    /**
+     * An {@code AddressBookStorage} stub that keeps the address books saved to it in memory.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private boolean isFailing;
+
+        /**
+         * Returns copies of the address books saved to the stub, which can be compared with an {@code AddressBook}.
+         */
+        private List<AddressBook> getSavedCopies() {
+            return savedAddressBooks.stream().map(AddressBook::new).collect(Collectors.toList());
+        }
+
+        @Override
+        public Path getAddressBookDataFilePath() {
+            return Paths.get("stub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            savedAddressBooks.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveAddressBook(addressBook);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package gomedic.storage;
+
+import static gomedic.testutil.TypicalPersons.MAIN_DOCTOR;
+import static gomedic.testutil.TypicalPersons.MAIN_PATIENT;
+import static gomedic.testutil.TypicalPersons.NOT_IN_TYPICAL_DOCTOR;
+import static gomedic.testutil.TypicalPersons.NOT_IN_TYPICAL_PATIENT;
+import static gomedic.testutil.TypicalUserProfile.OTHER_PROFILE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import gomedic.commons.exceptions.DataConversionException;
+import gomedic.commons.util.FileUtil;
+import gomedic.model.AddressBook;
+import gomedic.model.ReadOnlyAddressBook;
+import gomedic.model.person.patient.Gender;
+import gomedic.model.person.patient.Patient;
+import gomedic.testutil.Assert;
+import gomedic.testutil.TypicalPersons;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        assertTrue(BinarySerializableAddressBook.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addDoctor(NOT_IN_TYPICAL_DOCTOR);
+        original.removeDoctor(MAIN_DOCTOR);
+        original.addPatient(NOT_IN_TYPICAL_PATIENT);
+        original.removePatient(MAIN_PATIENT);
+        original.setUserProfile(OTHER_PROFILE);
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_sharedValues_createdOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        List<Gender> genders = readBack.getPatientListSortedById().stream()
+                .map(Patient::getGender)
+                .filter(MAIN_PATIENT.getGender()::equals)
+                .collect(Collectors.toList());
+        assertTrue(genders.size() > 1);
+        assertTrue(genders.stream().allMatch(gender -> gender == genders.get(0)));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void jsonStorageReadAddressBook_binaryFile_readAsBinary() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        Assert.assertThrows(DataConversionException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(filePath))) {
+            output.writeInt(BinarySerializableAddressBook.MAGIC_NUMBER);
+            output.writeInt(BinarySerializableAddressBook.FORMAT_VERSION + 1);
+        }
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedStringCount_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(filePath))) {
+            output.writeInt(BinarySerializableAddressBook.MAGIC_NUMBER);
+            output.writeInt(BinarySerializableAddressBook.FORMAT_VERSION);
+            output.writeInt(Integer.MAX_VALUE);
+        }
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryOrJson_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        FileUtil.writeToFile(filePath, "not a data file");
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin")).saveAddressBook(null));
+    }
+}
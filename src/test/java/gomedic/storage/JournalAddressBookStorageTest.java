@@ -0,0 +1,200 @@
+package gomedic.storage;
+
+import static gomedic.testutil.TypicalActivities.PAPER_REVIEW;
+import static gomedic.testutil.TypicalPersons.MAIN_DOCTOR;
+import static gomedic.testutil.TypicalPersons.MAIN_PATIENT;
+import static gomedic.testutil.TypicalPersons.NOT_IN_TYPICAL_DOCTOR;
+import static gomedic.testutil.TypicalPersons.NOT_IN_TYPICAL_PATIENT;
+import static gomedic.testutil.TypicalUserProfile.OTHER_PROFILE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import gomedic.commons.exceptions.DataConversionException;
+import gomedic.commons.util.FileUtil;
+import gomedic.model.AddressBook;
+import gomedic.model.AddressBookSnapshot;
+import gomedic.model.ReadOnlyAddressBook;
+import gomedic.testutil.Assert;
+import gomedic.testutil.TypicalPersons;
+import gomedic.testutil.modelbuilder.DoctorBuilder;
+import gomedic.testutil.modelbuilder.PatientBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveSnapshotInterval_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                new JournalAddressBookStorage(testFolder.resolve("AddressBook.json"), 0));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("NonExistentFile.json"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // First save writes a snapshot only
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // Modify data, journal the changes without touching the snapshot, and read back
+        original.addDoctor(NOT_IN_TYPICAL_DOCTOR);
+        original.removeDoctor(MAIN_DOCTOR);
+        original.addPatient(NOT_IN_TYPICAL_PATIENT);
+        original.setPatient(MAIN_PATIENT, new PatientBuilder(MAIN_PATIENT).withName("Edited Name").build());
+        original.removeActivity(PAPER_REVIEW);
+        original.setUserProfile(OTHER_PROFILE);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(6, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Saving unchanged data appends nothing
+        storage.saveAddressBook(new AddressBook(original));
+        assertEquals(6, Files.readAllLines(journalFilePath).size());
+
+        // Save to another file writes a full snapshot there
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        storage.saveAddressBook(original, otherFilePath);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_itemsChangedSinceMarkedAsSaved_onlyThoseJournaled() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.markAsSaved();
+
+        // an item added and removed again between two saves is not journaled
+        original.addDoctor(NOT_IN_TYPICAL_DOCTOR);
+        original.removeDoctor(NOT_IN_TYPICAL_DOCTOR);
+        original.removeDoctor(MAIN_DOCTOR);
+        original.setPatient(MAIN_PATIENT, new PatientBuilder(MAIN_PATIENT).withName("Edited Name").build());
+        storage.saveAddressBook(new AddressBookSnapshot(original));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotIntervalReached_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 3);
+        storage.saveAddressBook(original);
+
+        original.addPatient(NOT_IN_TYPICAL_PATIENT);
+        original.addDoctor(NOT_IN_TYPICAL_DOCTOR);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        original.removeDoctor(MAIN_DOCTOR);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalLeftBehindBySnapshot_olderRecordsSkipped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 3);
+        storage.saveAddressBook(original);
+
+        original.setPatient(MAIN_PATIENT, new PatientBuilder(MAIN_PATIENT).withName("Edited Name").build());
+        original.removeDoctor(MAIN_DOCTOR);
+        storage.saveAddressBook(original);
+        List<String> olderRecords = Files.readAllLines(journalFilePath);
+
+        // the snapshot contains the edit again and the doctor with the id freed by the removal
+        original.setPatient(MAIN_PATIENT, new PatientBuilder(MAIN_PATIENT).withName("Edited Again").build());
+        original.addDoctor(new DoctorBuilder(NOT_IN_TYPICAL_DOCTOR).withId(MAIN_DOCTOR.getId().getIdNumber()).build());
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+
+        // a crash before the journal is deleted leaves its older records behind
+        Files.write(journalFilePath, olderRecords);
+        JournalAddressBookStorage restartedStorage = new JournalAddressBookStorage(filePath, 3);
+        AddressBook readBack = new AddressBook(restartedStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals("Edited Again", readBack.getPatientById(MAIN_PATIENT.getId()).get().getName().toString());
+
+        // records journaled after the snapshot are still replayed
+        readBack.addPatient(NOT_IN_TYPICAL_PATIENT);
+        restartedStorage.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalAfterRead_changesJournaled() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPatient(NOT_IN_TYPICAL_PATIENT);
+        storage.saveAddressBook(readBack);
+
+        assertTrue(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPatient(NOT_IN_TYPICAL_PATIENT);
+        storage.saveAddressBook(original);
+
+        FileUtil.appendToFile(journalFilePath, "{\"operation\":\"PUT\",\"doctor\":{\"na");
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecordBeforeLastRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        new JournalAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        Files.write(journalFilePath, List.of("{\"operation\":\"PUT\"}", "{\"operation\":\"DELETE\"}"));
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () ->
+                new JournalAddressBookStorage(testFolder.resolve("SomeFile.json")).saveAddressBook(null));
+    }
+}
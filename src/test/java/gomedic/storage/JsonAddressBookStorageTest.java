@@ -6,15 +6,19 @@ import static gomedic.testutil.TypicalPersons.NOT_IN_TYPICAL_DOCTOR;
 import static gomedic.testutil.TypicalPersons.NOT_IN_TYPICAL_PATIENT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import gomedic.commons.exceptions.DataConversionException;
+import gomedic.commons.util.FileUtil;
 import gomedic.model.AddressBook;
 import gomedic.model.ReadOnlyAddressBook;
 import gomedic.testutil.Assert;
@@ -22,6 +26,8 @@ import gomedic.testutil.TypicalPersons;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final Path CONFLICTING_ACTIVITY_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "conflictingActivitiesAddressBook.json");
 
     @TempDir
     public Path testFolder;
@@ -104,6 +110,79 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_checksumMatches_activitiesNotChecked() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(CONFLICTING_ACTIVITY_FILE, filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        // a file without a checksum is fully validated
+        Assert.assertThrows(DataConversionException.class, jsonAddressBookStorage::readAddressBook);
+
+        JsonAddressBookStorage.saveChecksum(filePath);
+        assertTrue(jsonAddressBookStorage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_editedAfterSave_fullyValidated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        assertTrue(FileUtil.isFileExists(JsonAddressBookStorage.getChecksumFilePath(filePath)));
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+                new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        Files.copy(CONFLICTING_ACTIVITY_FILE, filePath, StandardCopyOption.REPLACE_EXISTING);
+        Assert.assertThrows(DataConversionException.class, jsonAddressBookStorage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_otherSchemaVersion_fullyValidated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(CONFLICTING_ACTIVITY_FILE, filePath);
+        JsonAddressBookStorage.saveChecksum(filePath);
+        Path checksumFilePath = JsonAddressBookStorage.getChecksumFilePath(filePath);
+        String checksum = FileUtil.readFromFile(checksumFilePath);
+        int otherVersion = JsonSerializableAddressBook.SCHEMA_VERSION + 1;
+        FileUtil.writeToFile(checksumFilePath,
+                checksum.replaceFirst("^" + JsonSerializableAddressBook.SCHEMA_VERSION + " ", otherVersion + " "));
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_readsPreviousVersion() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        FileUtil.writeToFile(filePath, "{ \"doctors\" : [ {");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedFileWithoutBackup_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"doctors\" : [ {");
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,6 +1,8 @@
 package gomedic.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -10,7 +12,6 @@ import org.junit.jupiter.api.Test;
 import gomedic.commons.exceptions.IllegalValueException;
 import gomedic.commons.util.JsonUtil;
 import gomedic.model.AddressBook;
-import gomedic.model.activity.exceptions.ConflictingActivityException;
 import gomedic.testutil.Assert;
 import gomedic.testutil.TypicalPersons;
 
@@ -39,11 +40,12 @@ public class JsonSerializableAddressBookTest {
     }
 
     @Test
-    public void toModelType_conflictingActivity_throwsConflictingActivityException() throws Exception {
+    public void toModelType_conflictingActivity_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(CONFLICTING_ACTIVITY_FILE,
                 JsonSerializableAddressBook.class).get();
 
-        Assert.assertThrows(ConflictingActivityException.class, dataFromFile::toModelType);
+        IllegalValueException thrown = assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+        assertTrue(thrown.getMessage().startsWith(JsonSerializableAddressBook.MESSAGE_CONFLICTING_ACTIVITY));
     }
 
     @Test
@@ -0,0 +1,59 @@
+package gomedic.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import gomedic.commons.exceptions.IllegalValueException;
+import gomedic.testutil.Assert;
+
+public class ParallelConversionTest {
+
+    private static final int LARGE_LIST_SIZE = ParallelConversion.SEQUENTIAL_THRESHOLD * 8 + 3;
+
+    @Test
+    public void convertAll_smallList_convertedInOrder() throws Exception {
+        assertEquals(List.of("1", "2", "3"), ParallelConversion.convertAll(List.of(1, 2, 3), String::valueOf));
+    }
+
+    @Test
+    public void convertAll_largeList_convertedInOrder() throws Exception {
+        List<Integer> numbers = IntStream.range(0, LARGE_LIST_SIZE).boxed().collect(Collectors.toList());
+        List<String> expected = numbers.stream().map(String::valueOf).collect(Collectors.toList());
+
+        assertEquals(expected, ParallelConversion.convertAll(numbers, String::valueOf));
+    }
+
+    @Test
+    public void convertAll_invalidEntry_throwsIllegalValueException() {
+        List<Integer> numbers = IntStream.range(0, LARGE_LIST_SIZE).boxed().collect(Collectors.toList());
+
+        Assert.assertThrows(IllegalValueException.class, "invalid", () ->
+                ParallelConversion.convertAll(numbers, number -> {
+                    if (number == LARGE_LIST_SIZE - 1) {
+                        throw new IllegalValueException("invalid");
+                    }
+                    return number;
+                }));
+    }
+
+    @Test
+    public void convertAll_severalInvalidEntries_throwsExceptionOfFirstEntry() {
+        List<Integer> numbers = IntStream.range(0, LARGE_LIST_SIZE).boxed().collect(Collectors.toList());
+
+        // every chunk has an invalid entry, so the first one found depends on the scheduling of the threads
+        for (int i = 0; i < 20; i++) {
+            Assert.assertThrows(IllegalValueException.class, "invalid 10", () ->
+                    ParallelConversion.convertAll(numbers, number -> {
+                        if (number >= 10 && number % 100 == 10) {
+                            throw new IllegalValueException("invalid " + number);
+                        }
+                        return number;
+                    }));
+        }
+    }
+}
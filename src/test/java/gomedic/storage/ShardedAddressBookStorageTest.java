@@ -0,0 +1,229 @@
+package gomedic.storage;
+
+import static gomedic.testutil.TypicalActivities.DUPLICATE_ACTIVITY;
+import static gomedic.testutil.TypicalActivities.PAST_ACTIVITY;
+import static gomedic.testutil.TypicalPersons.MAIN_DOCTOR;
+import static gomedic.testutil.TypicalPersons.MAIN_PATIENT;
+import static gomedic.testutil.TypicalPersons.NOT_IN_TYPICAL_DOCTOR;
+import static gomedic.testutil.TypicalPersons.NOT_IN_TYPICAL_PATIENT;
+import static gomedic.testutil.TypicalUserProfile.OTHER_PROFILE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import gomedic.commons.exceptions.DataConversionException;
+import gomedic.commons.util.FileUtil;
+import gomedic.model.AddressBook;
+import gomedic.model.ReadOnlyAddressBook;
+import gomedic.testutil.Assert;
+import gomedic.testutil.TypicalPersons;
+import gomedic.testutil.modelbuilder.ActivityBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getShardFolderPath() {
+        assertEquals(testFolder.resolve("addressbook"),
+                ShardedAddressBookStorage.getShardFolderPath(testFolder.resolve("addressbook.json")));
+        assertEquals(testFolder.resolve("addressbook-shards"),
+                ShardedAddressBookStorage.getShardFolderPath(testFolder.resolve("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingData_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("NonExistentFile.json"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        ShardedAddressBookStorage shardedAddressBookStorage = new ShardedAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        shardedAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting shards, and read back
+        original.addDoctor(NOT_IN_TYPICAL_DOCTOR);
+        original.removeDoctor(MAIN_DOCTOR);
+        original.addPatient(NOT_IN_TYPICAL_PATIENT);
+        original.removePatient(MAIN_PATIENT);
+        original.setUserProfile(OTHER_PROFILE);
+        shardedAddressBookStorage.saveAddressBook(original);
+        readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_activities_partitionedByYear() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path activitiesFolder = testFolder.resolve("TempAddressBook")
+                .resolve(ShardedAddressBookStorage.ACTIVITIES_FOLDER_NAME);
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        ShardedAddressBookStorage shardedAddressBookStorage = new ShardedAddressBookStorage(filePath);
+
+        shardedAddressBookStorage.saveAddressBook(original);
+        assertTrue(FileUtil.isFileExists(activitiesFolder.resolve("2020.json")));
+        assertTrue(FileUtil.isFileExists(activitiesFolder.resolve("2022.json")));
+
+        // a year without any activity left loses its shard
+        original.removeActivity(PAST_ACTIVITY);
+        shardedAddressBookStorage.saveAddressBook(original);
+        assertFalse(FileUtil.isFileExists(activitiesFolder.resolve("2020.json")));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_oneShardChanged_otherShardsNotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path shardFolder = testFolder.resolve("TempAddressBook");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        ShardedAddressBookStorage shardedAddressBookStorage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(shardedAddressBookStorage.readAddressBook().get());
+        addressBook.markAsSaved();
+
+        // the patients shard would be written again if the storage did not skip it
+        Files.delete(shardFolder.resolve(ShardedAddressBookStorage.PATIENTS_FILE_NAME));
+        String profileShard = FileUtil.readFromFile(shardFolder.resolve(ShardedAddressBookStorage.PROFILE_FILE_NAME));
+
+        addressBook.setDoctor(MAIN_DOCTOR, NOT_IN_TYPICAL_DOCTOR);
+        shardedAddressBookStorage.saveAddressBook(addressBook);
+
+        assertFalse(FileUtil.isFileExists(shardFolder.resolve(ShardedAddressBookStorage.PATIENTS_FILE_NAME)));
+        assertEquals(profileShard,
+                FileUtil.readFromFile(shardFolder.resolve(ShardedAddressBookStorage.PROFILE_FILE_NAME)));
+        assertTrue(FileUtil.readFromFile(shardFolder.resolve(ShardedAddressBookStorage.DOCTORS_FILE_NAME))
+                .contains(NOT_IN_TYPICAL_DOCTOR.getName().fullName));
+    }
+
+    @Test
+    public void readAddressBook_singleDataFile_readAndSplitOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage shardedAddressBookStorage = new ShardedAddressBookStorage(filePath);
+        ReadOnlyAddressBook readBack = shardedAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // the data file is renamed once split, so its stale content is never read again
+        shardedAddressBookStorage.saveAddressBook(readBack);
+        assertFalse(FileUtil.isFileExists(filePath));
+        assertTrue(FileUtil.isFileExists(ShardedAddressBookStorage.getSplitFilePath(filePath)));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+
+        // the other storages read the shards in place of the data file
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_saveInterruptedBeforeCommit_writtenShardsDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path shardFolder = testFolder.resolve("TempAddressBook");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        // a save that wrote the doctors shard but not the patients shard before the crash
+        Path pendingDoctorsShard = shardFolder.resolve(ShardedAddressBookStorage.DOCTORS_FILE_NAME
+                + ShardedAddressBookStorage.PENDING_FILE_EXTENSION);
+        FileUtil.writeToFile(pendingDoctorsShard, "{ \"doctors\" : [ ] }");
+
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(FileUtil.isFileExists(pendingDoctorsShard));
+    }
+
+    @Test
+    public void readAddressBook_saveInterruptedAfterCommit_saveCompleted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path shardFolder = testFolder.resolve("TempAddressBook");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        // a committed save that moved the doctors shard into place but not the patients shard before the crash
+        AddressBook edited = TypicalPersons.getTypicalAddressBook();
+        edited.removeDoctor(MAIN_DOCTOR);
+        edited.removePatient(MAIN_PATIENT);
+        Path otherFilePath = testFolder.resolve("Other.json");
+        new ShardedAddressBookStorage(otherFilePath).saveAddressBook(edited);
+        Path otherShardFolder = testFolder.resolve("Other");
+        Files.copy(otherShardFolder.resolve(ShardedAddressBookStorage.DOCTORS_FILE_NAME),
+                shardFolder.resolve(ShardedAddressBookStorage.DOCTORS_FILE_NAME), REPLACE_EXISTING);
+        Files.copy(otherShardFolder.resolve(ShardedAddressBookStorage.PATIENTS_FILE_NAME),
+                shardFolder.resolve(ShardedAddressBookStorage.PATIENTS_FILE_NAME
+                        + ShardedAddressBookStorage.PENDING_FILE_EXTENSION));
+        FileUtil.writeToFile(shardFolder.resolve(ShardedAddressBookStorage.COMMIT_FILE_NAME),
+                "WRITE " + ShardedAddressBookStorage.DOCTORS_FILE_NAME + System.lineSeparator()
+                + "WRITE " + ShardedAddressBookStorage.PATIENTS_FILE_NAME + System.lineSeparator());
+
+        assertEquals(edited, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(FileUtil.isFileExists(shardFolder.resolve(ShardedAddressBookStorage.COMMIT_FILE_NAME)));
+    }
+
+    @Test
+    public void readAddressBook_duplicateActivitiesAcrossYears_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        // the duplicate activity starts in a year of its own, so it ends up in a separate shard
+        AddressBook duplicate = new AddressBook();
+        duplicate.addActivity(DUPLICATE_ACTIVITY);
+        Path otherFilePath = testFolder.resolve("Other.json");
+        new ShardedAddressBookStorage(otherFilePath).saveAddressBook(duplicate);
+        Path activitiesFolder = Path.of(ShardedAddressBookStorage.ACTIVITIES_FOLDER_NAME);
+        Files.copy(testFolder.resolve("Other").resolve(activitiesFolder).resolve("2023.json"),
+                testFolder.resolve("TempAddressBook").resolve(activitiesFolder).resolve("2023.json"));
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_conflictingActivitiesAcrossYears_throwsDataConversionException() throws Exception {
+        // the first activity runs past the end of its year into the start of the second one
+        AddressBook lastDayOfYear = new AddressBook();
+        lastDayOfYear.addActivity(new ActivityBuilder().withId(1)
+                .withStartTime("31/12/2030 23:00").withEndTime("01/01/2031 02:00").build());
+        AddressBook firstDayOfYear = new AddressBook();
+        firstDayOfYear.addActivity(new ActivityBuilder().withId(2)
+                .withStartTime("01/01/2031 00:30").withEndTime("01/01/2031 01:00").build());
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(lastDayOfYear);
+        new ShardedAddressBookStorage(testFolder.resolve("Other.json")).saveAddressBook(firstDayOfYear);
+        Path activitiesFolder = Path.of(ShardedAddressBookStorage.ACTIVITIES_FOLDER_NAME);
+        Files.copy(testFolder.resolve("Other").resolve(activitiesFolder).resolve("2031.json"),
+                testFolder.resolve("TempAddressBook").resolve(activitiesFolder).resolve("2031.json"));
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        Path shardFolder = testFolder.resolve("TempAddressBook");
+        FileUtil.writeToFile(shardFolder.resolve(ShardedAddressBookStorage.DOCTORS_FILE_NAME), "not a shard");
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("SomeFile.json")).saveAddressBook(null));
+    }
+}